@@ -23,6 +23,7 @@ import org.testcontainers.utility.DockerImageName;
 import org.testcontainers.utility.ImageNameSubstitutor;
 import org.testcontainers.utility.LogUtils;
 import org.testcontainers.utility.ResourceReaper;
+import org.testcontainers.utility.TestcontainersConfiguration;
 
 import java.io.File;
 import java.time.Duration;
@@ -332,13 +333,17 @@ class ComposeDelegate {
      * can have multiple wait strategies for a single container, e.g. if waiting on several ports
      * if no wait strategy is defined, the WaitAllStrategy will return immediately.
      * The WaitAllStrategy uses the startup timeout for everything as a global maximum, but we expect timeouts to be handled by the inner strategies.
+     * With compose.wait.concurrent.enable, the inner strategies wait concurrently, so that a service waits for the
+     * slowest of them rather than their sum.
      */
     void addWaitStrategy(String serviceInstanceName, @NonNull WaitStrategy waitStrategy) {
         final WaitAllStrategy waitAllStrategy = waitStrategyMap.computeIfAbsent(
             serviceInstanceName,
             __ -> {
-                return new WaitAllStrategy(WaitAllStrategy.Mode.WITH_MAXIMUM_OUTER_TIMEOUT)
-                    .withStartupTimeout(startupTimeout);
+                WaitAllStrategy.Mode mode = TestcontainersConfiguration.getInstance().isComposeConcurrentWaitEnabled()
+                    ? WaitAllStrategy.Mode.CONCURRENT
+                    : WaitAllStrategy.Mode.WITH_MAXIMUM_OUTER_TIMEOUT;
+                return new WaitAllStrategy(mode).withStartupTimeout(startupTimeout);
             }
         );
         waitAllStrategy.withStrategy(waitStrategy);
@@ -0,0 +1,165 @@
+package org.testcontainers.containers;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.model.Event;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Subscription to the Docker events of a single container, allowing to react to state changes (e.g. "start")
+ * instead of polling the container's state with inspect calls.
+ * <p>
+ * Daemons are not required to emit every event, so callers must always be prepared to fall back to polling.
+ */
+@Slf4j
+class ContainerEventSubscription implements Closeable {
+
+    private static final Duration SUBSCRIPTION_TIMEOUT = Duration.ofSeconds(1);
+
+    private final String containerId;
+
+    private final Map<String, CountDownLatch> receivedEvents = new HashMap<>();
+
+    private final Consumer<String> listener;
+
+    private final ResultCallback.Adapter<Event> callback = new ResultCallback.Adapter<Event>() {
+        @Override
+        public void onNext(Event event) {
+            if (!containerId.equals(event.getId())) {
+                return;
+            }
+            String action = actionOf(event);
+            CountDownLatch latch = receivedEvents.get(action);
+            if (latch != null) {
+                latch.countDown();
+                listener.accept(action);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            active = false;
+            log.debug("Events subscription of container {} failed", containerId, throwable);
+            super.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            active = false;
+            super.onComplete();
+        }
+    };
+
+    private volatile boolean active;
+
+    private ContainerEventSubscription(String containerId, Consumer<String> listener, String... events) {
+        this.containerId = containerId;
+        this.listener = listener;
+        for (String event : events) {
+            receivedEvents.put(event, new CountDownLatch(1));
+        }
+    }
+
+    /**
+     * Subscribes to the given events of a container. Only events emitted after the subscription has been confirmed by
+     * the daemon are received, so it must be called before the action that triggers the events.
+     *
+     * @param dockerClient the Docker client
+     * @param containerId the ID of the container
+     * @param events the names of the events (e.g. "start") to subscribe to
+     * @return the subscription, which is inactive if the daemon did not confirm it in time
+     */
+    static ContainerEventSubscription subscribe(DockerClient dockerClient, String containerId, String... events) {
+        return subscribe(dockerClient, containerId, action -> {}, events);
+    }
+
+    /**
+     * Subscribes to the given events of a container, notifying the listener of every received event.
+     *
+     * @param dockerClient the Docker client
+     * @param containerId the ID of the container
+     * @param listener called with the name of every received event, on the thread reading the events stream
+     * @param events the names of the events (e.g. "die") to subscribe to
+     * @return the subscription, which is inactive if the daemon did not confirm it in time
+     * @see #subscribe(DockerClient, String, String...)
+     */
+    static ContainerEventSubscription subscribe(
+        DockerClient dockerClient,
+        String containerId,
+        Consumer<String> listener,
+        String... events
+    ) {
+        ContainerEventSubscription subscription = new ContainerEventSubscription(containerId, listener, events);
+        try {
+            dockerClient
+                .eventsCmd()
+                .withContainerFilter(containerId)
+                .withEventFilter(events)
+                .exec(subscription.callback);
+            subscription.active =
+                subscription.callback.awaitStarted(SUBSCRIPTION_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.debug("Failed to subscribe to events {} of container {}", Arrays.toString(events), containerId, e);
+        }
+
+        if (!subscription.active) {
+            log.debug("Events of container {} are not available, falling back to polling", containerId);
+            subscription.close();
+        }
+        return subscription;
+    }
+
+    /**
+     * @return whether the daemon confirmed the subscription, and it hasn't ended since
+     */
+    boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Waits until the given event is received.
+     *
+     * @param event the name of an event this subscription was created for
+     * @param timeout maximum time to wait
+     * @return true if the event was received, false if the subscription is inactive or the timeout elapsed
+     */
+    boolean awaitEvent(String event, Duration timeout) throws InterruptedException {
+        CountDownLatch latch = receivedEvents.get(event);
+        if (latch == null) {
+            throw new IllegalArgumentException("Not subscribed to event " + event);
+        }
+        return active && latch.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        active = false;
+        try {
+            callback.close();
+        } catch (IOException e) {
+            log.debug("Failed to close events subscription of container {}", containerId, e);
+        }
+    }
+
+    private static String actionOf(Event event) {
+        String action = event.getAction() != null ? event.getAction() : event.getStatus();
+        if (action == null) {
+            return "";
+        }
+        // e.g. "health_status: healthy"
+        int separator = action.indexOf(':');
+        return separator < 0 ? action : action.substring(0, separator);
+    }
+}
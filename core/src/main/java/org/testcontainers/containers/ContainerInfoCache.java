@@ -0,0 +1,101 @@
+package org.testcontainers.containers;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the inspect response of a container, so that state queries (e.g. {@link ContainerState#isRunning()}) issued
+ * by wait strategies from many threads share a single Docker API call.
+ * <p>
+ * A cached response is used for at most the configured time to live, and is dropped as soon as an event changing
+ * the state of the container is received. As changes would go unnoticed without these events, the cache is bypassed
+ * while the events subscription is not active.
+ */
+class ContainerInfoCache implements Closeable {
+
+    private static final String[] INVALIDATING_EVENTS = { "die", "stop", "health_status" };
+
+    private final DockerClient dockerClient;
+
+    private final String containerId;
+
+    private final long ttlNanos;
+
+    private final ContainerEventSubscription subscription;
+
+    private final Object loadLock = new Object();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile CachedResponse cached;
+
+    ContainerInfoCache(DockerClient dockerClient, String containerId, Duration ttl) {
+        this.dockerClient = dockerClient;
+        this.containerId = containerId;
+        this.ttlNanos = ttl.toNanos();
+        this.subscription =
+            ContainerEventSubscription.subscribe(dockerClient, containerId, event -> invalidate(), INVALIDATING_EVENTS);
+    }
+
+    /**
+     * @return the cached inspect response, or a new one if it is missing or stale, or events are not received
+     */
+    InspectContainerResponse get() {
+        if (!subscription.isActive()) {
+            return dockerClient.inspectContainerCmd(containerId).exec();
+        }
+
+        CachedResponse current = cached;
+        if (current != null && current.isFresh()) {
+            return current.response;
+        }
+
+        synchronized (loadLock) {
+            // another thread may have loaded it while we were waiting
+            current = cached;
+            if (current != null && current.isFresh()) {
+                return current.response;
+            }
+
+            long loadedGeneration = generation.get();
+            InspectContainerResponse response = dockerClient.inspectContainerCmd(containerId).exec();
+            cached = new CachedResponse(response, System.nanoTime());
+            if (generation.get() != loadedGeneration) {
+                // the container changed while it was inspected, the response may already be outdated
+                cached = null;
+            }
+            return response;
+        }
+    }
+
+    void invalidate() {
+        generation.incrementAndGet();
+        cached = null;
+    }
+
+    @Override
+    public void close() {
+        subscription.close();
+        invalidate();
+    }
+
+    private final class CachedResponse {
+
+        private final InspectContainerResponse response;
+
+        private final long loadedAtNanos;
+
+        private CachedResponse(InspectContainerResponse response, long loadedAtNanos) {
+            this.response = response;
+            this.loadedAtNanos = loadedAtNanos;
+        }
+
+        private boolean isFresh() {
+            return System.nanoTime() - loadedAtNanos < ttlNanos;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package org.testcontainers.containers;
+
+import com.github.dockerjava.api.DockerClient;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+import org.testcontainers.UnstableAPI;
+import org.testcontainers.containers.output.BaseConsumer;
+import org.testcontainers.containers.output.FrameConsumerResultCallback;
+import org.testcontainers.containers.output.OutputFrame;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * A single log stream of a container, shared by all of its consumers.
+ * <p>
+ * Following the output of a container with {@link org.testcontainers.utility.LogUtils} attaches a new stream for each
+ * consumer, each of them reading the output from the start of the container again. The hub attaches once, and sends
+ * each frame to all of its subscribers. Subscribers registered later first receive the retained history, which is
+ * bounded by {@code log.hub.history.bytes}: once exceeded, the oldest frames are discarded.
+ * <p>
+ * The hub ends with the stream, e.g. when the container stops, after which a new hub attaches again. ANSI color codes
+ * are kept in the stream, and removed for each subscriber that doesn't keep them, see
+ * {@link BaseConsumer#withRemoveAnsiCodes(boolean)}.
+ */
+@UnstableAPI
+@Slf4j
+public final class ContainerLogHub extends BaseConsumer<ContainerLogHub> {
+
+    private static final Map<String, ContainerLogHub> HUBS = new ConcurrentHashMap<>();
+
+    private final String containerId;
+
+    private final long historyCapacity;
+
+    private final Deque<OutputFrame> history = new ArrayDeque<>();
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    private final FrameConsumerResultCallback callback = new FrameConsumerResultCallback();
+
+    private long historyBytes;
+
+    private boolean historyTruncated;
+
+    private volatile boolean ended;
+
+    ContainerLogHub(String containerId, long historyCapacity) {
+        this.containerId = containerId;
+        this.historyCapacity = historyCapacity;
+        withRemoveAnsiCodes(false);
+        callback.addConsumer(OutputFrame.OutputType.STDOUT, this);
+        callback.addConsumer(OutputFrame.OutputType.STDERR, this);
+    }
+
+    /**
+     * @return the hub of the container, attaching to its output if there is none yet
+     */
+    public static ContainerLogHub of(DockerClient dockerClient, String containerId) {
+        return HUBS.compute(
+            containerId,
+            (id, hub) -> {
+                if (hub != null && !hub.ended) {
+                    return hub;
+                }
+                ContainerLogHub newHub = new ContainerLogHub(
+                    id,
+                    TestcontainersConfiguration.getInstance().getLogHubHistoryBytes()
+                );
+                newHub.attach(dockerClient);
+                return newHub;
+            }
+        );
+    }
+
+    /**
+     * Detaches the hub of the container, if any.
+     */
+    static void closeFor(@Nullable String containerId) {
+        if (containerId != null) {
+            ContainerLogHub hub = HUBS.remove(containerId);
+            if (hub != null) {
+                hub.close();
+            }
+        }
+    }
+
+    /**
+     * Sends the retained history, then each new frame of the selected types to a consumer, until the stream ends with
+     * {@link OutputFrame#END}.
+     *
+     * @param consumer consumer that the frames should be sent to
+     * @param types types that should be sent, or all types if none are given
+     */
+    public synchronized void subscribe(Consumer<OutputFrame> consumer, OutputFrame.OutputType... types) {
+        Subscriber subscriber = new Subscriber(consumer, types);
+        for (OutputFrame frame : history) {
+            subscriber.accept(frame);
+        }
+        if (ended) {
+            subscriber.accept(OutputFrame.END);
+        } else {
+            subscribers.add(subscriber);
+        }
+    }
+
+    /**
+     * Subscribes a consumer like {@link #subscribe(Consumer, OutputFrame.OutputType...)}, unless frames were discarded
+     * from the history, e.g. to match output that may have been discarded.
+     *
+     * @return whether the consumer was subscribed, and receives all of the output
+     */
+    public synchronized boolean subscribeFromStart(Consumer<OutputFrame> consumer, OutputFrame.OutputType... types) {
+        if (historyTruncated) {
+            return false;
+        }
+        subscribe(consumer, types);
+        return true;
+    }
+
+    /**
+     * Stops sending frames to a consumer.
+     */
+    public void unsubscribe(Consumer<OutputFrame> consumer) {
+        subscribers.removeIf(subscriber -> subscriber.consumer == consumer);
+    }
+
+    /**
+     * @return whether frames were discarded from the history, so that late subscribers miss the start of the output
+     */
+    public synchronized boolean isHistoryTruncated() {
+        return historyTruncated;
+    }
+
+    @Override
+    public synchronized void accept(OutputFrame frame) {
+        if (ended) {
+            // each output type ends the stream
+            return;
+        }
+
+        if (frame.getType() == OutputFrame.OutputType.END) {
+            ended = true;
+            HUBS.remove(containerId, this);
+        } else if (historyCapacity > 0) {
+            history.addLast(frame);
+            historyBytes += frame.getBytes().length;
+        } else {
+            historyTruncated = true;
+        }
+        while (historyBytes > historyCapacity && !history.isEmpty()) {
+            historyBytes -= history.removeFirst().getBytes().length;
+            historyTruncated = true;
+        }
+
+        for (Subscriber subscriber : subscribers) {
+            subscriber.accept(frame);
+        }
+        if (ended) {
+            subscribers.clear();
+        }
+    }
+
+    void attach(DockerClient dockerClient) {
+        dockerClient
+            .logContainerCmd(containerId)
+            .withFollowStream(true)
+            .withSince(0)
+            .withStdOut(true)
+            .withStdErr(true)
+            .exec(callback);
+    }
+
+    private void close() {
+        try {
+            callback.close();
+        } catch (IOException e) {
+            log.debug("Failed to close the log stream of container {}", containerId, e);
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final Consumer<OutputFrame> consumer;
+
+        private final Set<OutputFrame.OutputType> types;
+
+        private Subscriber(Consumer<OutputFrame> consumer, OutputFrame.OutputType... types) {
+            this.consumer = consumer;
+            this.types =
+                types.length == 0
+                    ? EnumSet.allOf(OutputFrame.OutputType.class)
+                    : EnumSet.copyOf(Arrays.asList(types));
+        }
+
+        private void accept(OutputFrame frame) {
+            if (frame.getType() != OutputFrame.OutputType.END && !types.contains(frame.getType())) {
+                return;
+            }
+            boolean removeColorCodes =
+                !(consumer instanceof BaseConsumer) || ((BaseConsumer<?>) consumer).isRemoveColorCodes();
+            try {
+                consumer.accept(removeColorCodes ? frame.withoutColorCodes() : frame);
+            } catch (RuntimeException e) {
+                log.warn("Log consumer {} failed", consumer, e);
+            }
+        }
+    }
+}
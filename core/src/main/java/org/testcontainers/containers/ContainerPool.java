@@ -0,0 +1,265 @@
+package org.testcontainers.containers;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.exception.DockerException;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.UnstableAPI;
+import org.testcontainers.utility.ResourceReaper;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Pool of started containers, handed out to containers with an identical configuration when they are started.
+ * <p>
+ * Containers are matched by the same configuration hash as reusable containers (see
+ * {@link GenericContainer#withReuse(boolean)}). A container using a pool (see
+ * {@link GenericContainer#withContainerPool(ContainerPool)}) takes an idle container from the pool on start, instead of
+ * creating a new one, and returns it to the pool on stop, after the reset hook cleaned it up (e.g. truncated tables).
+ * Like reused containers, containers taken from the pool are passed {@code reused = true} in
+ * {@link GenericContainer#containerIsStarting(com.github.dockerjava.api.command.InspectContainerResponse, boolean)} and
+ * {@link GenericContainer#containerIsStarted(com.github.dockerjava.api.command.InspectContainerResponse, boolean)}.
+ * <p>
+ * Example:
+ * <pre>
+ * static final ContainerPool&lt;PostgreSQLContainer&lt;?&gt;&gt; POOL = new ContainerPool&lt;PostgreSQLContainer&lt;?&gt;&gt;(2)
+ *     .withResetHook(postgres -&gt; truncateTables(postgres))
+ *     .warmUp(() -&gt; new PostgreSQLContainer&lt;&gt;("postgres:16-alpine"));
+ *
+ * PostgreSQLContainer&lt;?&gt; postgres = new PostgreSQLContainer&lt;&gt;("postgres:16-alpine").withContainerPool(POOL);
+ * </pre>
+ *
+ * @param <T> the type of the pooled containers
+ */
+@UnstableAPI
+@Slf4j
+public class ContainerPool<T extends GenericContainer<?>> implements AutoCloseable {
+
+    private static final AtomicInteger THREAD_ID = new AtomicInteger(0);
+
+    private static final ExecutorService WARM_UP_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, runnable);
+        thread.setDaemon(true);
+        thread.setName("testcontainers-pool-" + THREAD_ID.incrementAndGet());
+        return thread;
+    });
+
+    private final int size;
+
+    private Consumer<? super T> resetHook = container -> {};
+
+    private final Map<String, Deque<IdleContainer>> idleContainers = new ConcurrentHashMap<>();
+
+    private final Map<String, Supplier<? extends T>> definitions = new ConcurrentHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    private volatile boolean closed;
+
+    /**
+     * @param size the maximum number of idle containers kept for each configuration
+     */
+    public ContainerPool(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Pool size must be positive, was " + size);
+        }
+        this.size = size;
+    }
+
+    /**
+     * Sets the hook run on a container before it is returned to the pool, e.g. to delete the data created by a test.
+     * If the hook throws, the container is stopped instead of being returned.
+     *
+     * @param resetHook the reset hook
+     * @return this
+     */
+    public ContainerPool<T> withResetHook(Consumer<? super T> resetHook) {
+        this.resetHook = resetHook;
+        return this;
+    }
+
+    /**
+     * Starts as many containers of the given definition in the background as the pool size, and keeps them idle in
+     * the pool under the configuration hash computed when they start. The pool is also refilled in the background
+     * whenever such a container is taken from it.
+     *
+     * @param definition creates new, not yet started, containers, which must not use a pool themselves
+     * @return this
+     */
+    public ContainerPool<T> warmUp(Supplier<? extends T> definition) {
+        for (int i = 0; i < size; i++) {
+            startInBackground(definition);
+        }
+        return this;
+    }
+
+    /**
+     * @return the number of started containers that were handed out by the pool
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return the number of started containers that had to be created, as the pool had no idle container
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Stops all idle containers. Containers in use are stopped instead of being returned to the pool.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        idleContainers.values().forEach(idle -> {
+            List<IdleContainer> containers;
+            synchronized (idle) {
+                containers = new ArrayList<>(idle);
+                idle.clear();
+            }
+            containers.forEach(IdleContainer::stop);
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "ContainerPool(size=" + size + ", hits=" + hitCount + ", misses=" + missCount + ")";
+    }
+
+    /**
+     * Takes a running idle container with the given configuration hash.
+     *
+     * @return the ID of the container, or empty if the pool has none
+     */
+    Optional<String> acquire(String key) {
+        Deque<IdleContainer> idle = idleContainers(key);
+        while (true) {
+            IdleContainer container;
+            synchronized (idle) {
+                container = idle.pollFirst();
+            }
+            if (container == null) {
+                break;
+            }
+
+            if (container.isRunning()) {
+                hitCount.incrementAndGet();
+                log.debug("Took container {} from {}", container.containerId, this);
+                refill(key);
+                return Optional.of(container.containerId);
+            }
+            log.debug("Discarding container {} from the pool, as it is not running anymore", container.containerId);
+        }
+
+        missCount.incrementAndGet();
+        log.debug("No idle container with hash {} in {}", key, this);
+        return Optional.empty();
+    }
+
+    /**
+     * Resets the given container and returns it to the pool, if the pool has room for it.
+     *
+     * @return whether the container was returned, and must be kept running
+     */
+    @SuppressWarnings("unchecked")
+    boolean release(String key, GenericContainer<?> container) {
+        Deque<IdleContainer> idle = idleContainers(key);
+        if (closed || idle.size() >= size) {
+            return false;
+        }
+
+        try {
+            resetHook.accept((T) container);
+        } catch (Exception e) {
+            log.warn("Failed to reset container {}, it won't be returned to the pool", container.getContainerId(), e);
+            return false;
+        }
+
+        return offer(key, new IdleContainer(container));
+    }
+
+    private boolean offer(String key, IdleContainer container) {
+        Deque<IdleContainer> idle = idleContainers(key);
+        synchronized (idle) {
+            if (closed || idle.size() >= size) {
+                return false;
+            }
+            idle.offerLast(container);
+            return true;
+        }
+    }
+
+    private void refill(String key) {
+        Supplier<? extends T> definition = definitions.get(key);
+        if (definition != null && !closed) {
+            startInBackground(definition);
+        }
+    }
+
+    private void startInBackground(Supplier<? extends T> definition) {
+        WARM_UP_EXECUTOR.submit(() -> {
+            T container = definition.get();
+            container.poolWarmUp = true;
+            try {
+                container.start();
+                String key = container.getContainerPoolKey();
+                definitions.putIfAbsent(key, definition);
+                IdleContainer idle = new IdleContainer(container);
+                if (!offer(key, idle)) {
+                    idle.stop();
+                }
+            } catch (Exception e) {
+                log.warn("Failed to start container {} for {}", container.getDockerImageName(), this, e);
+            }
+        });
+    }
+
+    private Deque<IdleContainer> idleContainers(String key) {
+        return idleContainers.computeIfAbsent(key, __ -> new ArrayDeque<>());
+    }
+
+    private static final class IdleContainer {
+
+        private final DockerClient dockerClient;
+
+        private final String containerId;
+
+        private final String imageName;
+
+        private IdleContainer(GenericContainer<?> container) {
+            this.dockerClient = container.getDockerClient();
+            this.containerId = container.getContainerId();
+            this.imageName = container.getDockerImageName();
+        }
+
+        private boolean isRunning() {
+            try {
+                return Boolean.TRUE.equals(
+                    dockerClient.inspectContainerCmd(containerId).exec().getState().getRunning()
+                );
+            } catch (DockerException e) {
+                return false;
+            }
+        }
+
+        private void stop() {
+            ResourceReaper.instance().stopAndRemoveContainer(containerId, imageName);
+        }
+    }
+}
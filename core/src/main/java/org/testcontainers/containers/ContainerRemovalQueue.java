@@ -0,0 +1,145 @@
+package org.testcontainers.containers;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.exception.ConflictException;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.google.common.base.Throwables;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Removes killed containers and their anonymous volumes in the background, with a bounded number of concurrent
+ * removals, so that {@link GenericContainer#stop()} doesn't have to wait for the Docker daemon to clean up.
+ * <p>
+ * Containers that are still queued when the JVM exits are removed by Ryuk, like any container of the session.
+ */
+@Slf4j
+final class ContainerRemovalQueue {
+
+    private static final AtomicInteger THREAD_ID = new AtomicInteger(0);
+
+    private final ExecutorService executor;
+
+    private final AtomicInteger pending = new AtomicInteger(0);
+
+    ContainerRemovalQueue(int concurrency) {
+        this.executor =
+            new ThreadPoolExecutor(
+                concurrency,
+                concurrency,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, runnable);
+                    thread.setDaemon(true);
+                    thread.setName("testcontainers-remover-" + THREAD_ID.incrementAndGet());
+                    return thread;
+                }
+            );
+    }
+
+    static ContainerRemovalQueue getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Kills the container with {@code SIGKILL} on the calling thread, and queues its removal.
+     */
+    void killAndRemove(DockerClient dockerClient, String containerId, String imageName) {
+        try {
+            dockerClient.killContainerCmd(containerId).exec();
+        } catch (NotFoundException e) {
+            log.trace("Was going to kill container but it apparently no longer exists: {}", containerId);
+            return;
+        } catch (ConflictException e) {
+            log.trace("Was going to kill container but it is not running: {}", containerId);
+        } catch (Exception e) {
+            log.trace(
+                "Error encountered killing container (ID: {}) - it may already be stopped. Root cause: {}",
+                containerId,
+                Throwables.getRootCause(e).getMessage()
+            );
+        }
+
+        pending.incrementAndGet();
+        Runnable removal = () -> {
+            try {
+                dockerClient.removeContainerCmd(containerId).withRemoveVolumes(true).withForce(true).exec();
+                log.debug("Removed container and associated volume(s): {}", imageName);
+            } catch (NotFoundException e) {
+                log.trace("Was going to remove container but it apparently no longer exists: {}", containerId);
+            } catch (Exception e) {
+                log.trace(
+                    "Error encountered removing container (ID: {}). Root cause: {}",
+                    containerId,
+                    Throwables.getRootCause(e).getMessage()
+                );
+            } finally {
+                pending.decrementAndGet();
+            }
+        };
+        try {
+            executor.execute(removal);
+        } catch (RejectedExecutionException e) {
+            // drained, e.g. by the shutdown hook while containers are still being stopped
+            removal.run();
+        }
+    }
+
+    /**
+     * @return the number of containers queued or being removed
+     */
+    int getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Stops removing containers in the background and waits for the queued removals to complete. Later removals are
+     * made on the calling thread.
+     *
+     * @return whether all queued removals completed in time
+     */
+    boolean drain(Duration timeout) throws InterruptedException {
+        executor.shutdown();
+        return executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static final class InstanceHolder {
+
+        private static final ContainerRemovalQueue INSTANCE = create();
+
+        private static ContainerRemovalQueue create() {
+            TestcontainersConfiguration configuration = TestcontainersConfiguration.getInstance();
+            ContainerRemovalQueue queue = new ContainerRemovalQueue(configuration.getAsyncStopConcurrency());
+
+            Duration drainTimeout = configuration.getAsyncStopDrainTimeout();
+            if (!drainTimeout.isZero()) {
+                Runnable drain = () -> {
+                    try {
+                        if (!queue.drain(drainTimeout)) {
+                            log.warn(
+                                "{} container(s) were not removed within {}, leaving them to Ryuk",
+                                queue.getPendingCount(),
+                                drainTimeout
+                            );
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                };
+                Runtime.getRuntime().addShutdownHook(new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, drain));
+            }
+            return queue;
+        }
+    }
+}
@@ -10,20 +10,18 @@ import com.github.dockerjava.api.model.Ports;
 import com.google.common.base.Preconditions;
 import lombok.SneakyThrows;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
-import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.apache.commons.compress.utils.IOUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.DockerClientFactory;
+import org.testcontainers.UnstableAPI;
 import org.testcontainers.containers.output.OutputFrame;
 import org.testcontainers.images.builder.Transferable;
 import org.testcontainers.utility.LogUtils;
 import org.testcontainers.utility.MountableFile;
 import org.testcontainers.utility.ThrowingFunction;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -311,6 +309,44 @@ public interface ContainerState {
         return ExecInContainerPattern.execInContainer(getDockerClient(), getContainerInfo(), outputCharset, execConfig);
     }
 
+    /**
+     * Start a command inside a running container, as though using "docker exec -i", streaming its standard input and
+     * output instead of collecting its output, e.g. for commands with large output.
+     *
+     * @see ExecProcess
+     */
+    @UnstableAPI
+    default ExecProcess execInContainerStreaming(String... command) throws UnsupportedOperationException {
+        return execInContainerStreaming(ExecConfig.builder().command(command).build());
+    }
+
+    /**
+     * Start a command inside a running container, as though using "docker exec -i", streaming its standard input and
+     * output instead of collecting its output, e.g. for commands with large output.
+     *
+     * @see ExecProcess
+     */
+    @UnstableAPI
+    default ExecProcess execInContainerStreaming(ExecConfig execConfig) throws UnsupportedOperationException {
+        return ExecInContainerPattern.execInContainerStreaming(getDockerClient(), getContainerInfo(), execConfig);
+    }
+
+    /**
+     * Run a command inside a running container through its {@link ExecChannel}, a long-lived shell that avoids the
+     * Docker API calls of "docker exec" for each command. Once a command of the channel timed out, commands are run
+     * with {@link #execInContainer(String...)} instead.
+     *
+     * @see ExecChannel#exec(String...)
+     */
+    @UnstableAPI
+    default Container.ExecResult execInChannel(String... command) throws IOException, InterruptedException {
+        ExecChannel channel = ExecChannel.of(getDockerClient(), getContainerInfo());
+        if (channel.isTimedOut()) {
+            return execInContainer(command);
+        }
+        return channel.exec(command);
+    }
+
     /**
      *
      * Copies a file or directory to the container.
@@ -345,22 +381,7 @@ public interface ContainerState {
             throw new IllegalStateException("copyFileToContainer can only be used with created / running container");
         }
 
-        try (
-            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-            TarArchiveOutputStream tarArchive = new TarArchiveOutputStream(byteArrayOutputStream)
-        ) {
-            tarArchive.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
-            tarArchive.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
-
-            transferable.transferTo(tarArchive, containerPath);
-            tarArchive.finish();
-
-            getDockerClient()
-                .copyArchiveToContainerCmd(getContainerId())
-                .withTarInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))
-                .withRemotePath("/")
-                .exec();
-        }
+        new CopyToContainerBatch().add(transferable, containerPath).transferTo(getDockerClient(), getContainerId());
     }
 
     /**
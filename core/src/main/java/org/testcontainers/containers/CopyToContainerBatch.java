@@ -0,0 +1,267 @@
+package org.testcontainers.containers;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.model.AccessMode;
+import com.github.dockerjava.api.model.Bind;
+import com.github.dockerjava.api.model.Volume;
+import com.google.common.base.Throwables;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.io.FileUtils;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.utility.MountableFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.Adler32;
+import java.util.zip.Checksum;
+
+/**
+ * A set of {@link Transferable}s that are copied to a container as a single TAR archive.
+ * <p>
+ * The archive is streamed to the Docker daemon through a pipe while it is being written, so that copying any number
+ * of files costs exactly one API call and never holds the whole archive in memory.
+ */
+@Slf4j
+class CopyToContainerBatch {
+
+    private static final int PIPE_BUFFER_SIZE = 64 * 1024;
+
+    private static final AtomicInteger THREAD_ID = new AtomicInteger(0);
+
+    private static final ExecutorService ARCHIVE_WRITER_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, runnable);
+        thread.setDaemon(true);
+        thread.setName("testcontainers-copy-" + THREAD_ID.incrementAndGet());
+        return thread;
+    });
+
+    // Maintain order in which entries are added, as earlier target location may be a prefix of a later location.
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Adds a {@link MountableFile} entry, keeping the deprecated support for folder-like container paths
+     * of {@link ContainerState#copyFileToContainer(MountableFile, String)}.
+     */
+    CopyToContainerBatch add(MountableFile mountableFile, String containerPath) {
+        entries.add(new Entry(mountableFile, containerPath, true));
+        return this;
+    }
+
+    CopyToContainerBatch add(Transferable transferable, String containerPath) {
+        entries.add(new Entry(transferable, containerPath, false));
+        return this;
+    }
+
+    boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Removes the entries of {@link MountableFile}s that can be bind mounted read-only instead of being copied: regular
+     * files of at least the given size, that no other entry writes to or copies a directory over, and whose file mode
+     * is not forced.
+     *
+     * @param minimumSize the minimum size of the files to remove
+     * @param includeJarResources whether to remove files extracted from JAR files, which are deleted when the JVM exits
+     * @return the binds replacing the removed entries
+     */
+    List<Bind> removeBindMountableFiles(long minimumSize, boolean includeJarResources) {
+        List<Bind> binds = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            if (entry.isBindMountable(minimumSize, includeJarResources) && !overlapsOtherEntry(i)) {
+                String hostPath = ((MountableFile) entry.transferable).getResolvedPath();
+                binds.add(new Bind(hostPath, new Volume(entry.containerPath), AccessMode.ro));
+            }
+        }
+        entries.removeIf(entry -> {
+            return binds.stream().anyMatch(bind -> bind.getVolume().getPath().equals(entry.containerPath));
+        });
+        return binds;
+    }
+
+    private boolean overlapsOtherEntry(int index) {
+        String containerPath = entries.get(index).containerPath;
+        for (int i = 0; i < entries.size(); i++) {
+            if (i == index) {
+                continue;
+            }
+            // earlier entries too: the copy of a directory can't write to a file mounted read-only inside it
+            String other = entries.get(i).containerPath;
+            String otherDirectory = other.endsWith("/") ? other : other + "/";
+            if (containerPath.equals(other) || containerPath.startsWith(otherDirectory)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Computes the checksum of all entries, in container path order, so that the result does not depend on the order
+     * in which the entries were added.
+     *
+     * @return the checksum of the container paths and contents of all entries
+     */
+    Checksum checksum() {
+        Checksum checksum = new Adler32();
+        entries
+            .stream()
+            .sorted(Comparator.comparing(it -> it.containerPath))
+            .forEach(entry -> {
+                byte[] pathBytes = entry.containerPath.getBytes();
+                // Add path to the hash
+                checksum.update(pathBytes, 0, pathBytes.length);
+
+                entry.transferable.updateChecksum(checksum);
+            });
+        return checksum;
+    }
+
+    /**
+     * Streams all entries to the container with a single copy invocation.
+     *
+     * @param dockerClient the client to use
+     * @param containerId the ID of a created or running container
+     */
+    void transferTo(DockerClient dockerClient, String containerId) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        AtomicReference<Throwable> archiveFailure = new AtomicReference<>();
+        PipedInputStream tarInputStream = new PipedInputStream(PIPE_BUFFER_SIZE);
+        PipedOutputStream tarOutputStream = new PipedOutputStream(tarInputStream);
+
+        Future<?> archiveWriter = ARCHIVE_WRITER_EXECUTOR.submit(() -> {
+            try {
+                writeArchive(tarOutputStream);
+            } catch (Throwable e) {
+                // must be recorded before the pipe gets closed, so that the reader side can tell why the archive ended
+                archiveFailure.set(e);
+            } finally {
+                try {
+                    tarOutputStream.close();
+                } catch (IOException ignored) {}
+            }
+        });
+
+        try {
+            dockerClient
+                .copyArchiveToContainerCmd(containerId)
+                .withTarInputStream(tarInputStream)
+                .withRemotePath("/")
+                .exec();
+        } catch (RuntimeException e) {
+            rethrowArchiveFailure(archiveFailure.get());
+            throw e;
+        } finally {
+            // Unblocks the writer if the daemon stopped reading before the end of the archive
+            tarInputStream.close();
+            awaitArchiveWriter(archiveWriter);
+        }
+        rethrowArchiveFailure(archiveFailure.get());
+
+        if (log.isDebugEnabled()) {
+            log.debug(
+                "Copied {} file(s) ({}) to container {}",
+                entries.size(),
+                FileUtils.byteCountToDisplaySize(entries.stream().mapToLong(it -> it.transferable.getSize()).sum()),
+                containerId
+            );
+        }
+    }
+
+    private void writeArchive(PipedOutputStream outputStream) throws IOException {
+        TarArchiveOutputStream tarArchive = new TarArchiveOutputStream(outputStream);
+        tarArchive.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+        tarArchive.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+
+        for (Entry entry : entries) {
+            entry.transferable.transferTo(tarArchive, entry.archivePath());
+        }
+        tarArchive.finish();
+        tarArchive.flush();
+    }
+
+    private static void rethrowArchiveFailure(Throwable archiveFailure) {
+        if (archiveFailure != null) {
+            Throwables.throwIfUnchecked(archiveFailure);
+            throw new RuntimeException("Can't create the archive to copy to the container", archiveFailure);
+        }
+    }
+
+    private static void awaitArchiveWriter(Future<?> archiveWriter) throws IOException {
+        try {
+            archiveWriter.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            archiveWriter.cancel(true);
+            throw new InterruptedIOException("Interrupted while copying files to the container");
+        } catch (ExecutionException e) {
+            // failures are recorded in archiveFailure
+        }
+    }
+
+    private static final class Entry {
+
+        private final Transferable transferable;
+
+        private final String containerPath;
+
+        private final boolean folderLikePathSupported;
+
+        private Entry(Transferable transferable, String containerPath, boolean folderLikePathSupported) {
+            this.transferable = transferable;
+            this.containerPath = containerPath;
+            this.folderLikePathSupported = folderLikePathSupported;
+        }
+
+        private boolean isBindMountable(long minimumSize, boolean includeJarResources) {
+            if (!(transferable instanceof MountableFile) || containerPath.endsWith("/")) {
+                return false;
+            }
+
+            MountableFile mountableFile = (MountableFile) transferable;
+            if (mountableFile.isExtractedFromJar() && !includeJarResources) {
+                return false;
+            }
+
+            Path path = Paths.get(mountableFile.getResolvedPath());
+            return (
+                Files.isRegularFile(path) &&
+                mountableFile.getSize() >= minimumSize &&
+                mountableFile.getFileMode() == MountableFile.getUnixFileMode(path)
+            );
+        }
+
+        private String archivePath() {
+            if (folderLikePathSupported && containerPath.endsWith("/")) {
+                File sourceFile = new File(((MountableFile) transferable).getResolvedPath());
+                if (sourceFile.isFile()) {
+                    log.warn(
+                        "folder-like containerPath in copyFileToContainer is deprecated, please explicitly specify a file path"
+                    );
+                    return containerPath + sourceFile.getName();
+                }
+            }
+            return containerPath;
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package org.testcontainers.containers;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+import com.google.common.annotations.VisibleForTesting;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+import org.testcontainers.UnstableAPI;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A long-lived shell in a container, running commands written to its standard input.
+ * <p>
+ * Running a command with {@link ExecInContainerPattern} takes several Docker API calls: creating the exec instance,
+ * starting it and inspecting it for the exit code. The channel only takes these calls once, when the shell is
+ * started, so repeated commands such as readiness checks are much cheaper.
+ * <p>
+ * Commands are run one at a time by {@code /bin/sh}, which must exist in the container. Each command is followed by a
+ * unique marker with its exit code on both output streams, which delimits its output. Commands don't have a standard
+ * input, and run as the default user of the container.
+ * <p>
+ * A command that doesn't complete within {@code exec.channel.timeout} closes the channel, as the shell is stuck on it.
+ * The timed out channel remains the channel of the container, so that {@link ContainerState#execInChannel(String...)}
+ * runs the following commands with their own exec instances.
+ */
+@UnstableAPI
+@Slf4j
+public final class ExecChannel implements AutoCloseable {
+
+    private static final Map<String, ExecChannel> CHANNELS = new ConcurrentHashMap<>();
+
+    private static final byte[] END_OF_INPUT = new byte[0];
+
+    private final DockerClient dockerClient;
+
+    private final String containerId;
+
+    private final String containerName;
+
+    private final Duration timeout;
+
+    private final BlockingQueue<byte[]> input = new LinkedBlockingQueue<>();
+
+    private final ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+
+    private final ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+
+    private final OutputCallback callback = new OutputCallback();
+
+    private boolean started;
+
+    private volatile boolean closed;
+
+    private volatile boolean timedOut;
+
+    private ExecChannel(DockerClient dockerClient, String containerId, String containerName, Duration timeout) {
+        this.dockerClient = dockerClient;
+        this.containerId = containerId;
+        this.containerName = containerName;
+        this.timeout = timeout;
+    }
+
+    /**
+     * @return the channel of the container, started by the first command
+     */
+    public static ExecChannel of(DockerClient dockerClient, InspectContainerResponse containerInfo) {
+        return of(dockerClient, containerInfo, TestcontainersConfiguration.getInstance().getExecChannelTimeout());
+    }
+
+    @VisibleForTesting
+    static ExecChannel of(DockerClient dockerClient, InspectContainerResponse containerInfo, Duration timeout) {
+        return CHANNELS.compute(
+            containerInfo.getId(),
+            (containerId, channel) -> {
+                if (channel != null && (!channel.closed || channel.timedOut)) {
+                    return channel;
+                }
+                return new ExecChannel(dockerClient, containerId, containerInfo.getName(), timeout);
+            }
+        );
+    }
+
+    /**
+     * Closes the channel of the container, if any.
+     */
+    static void closeFor(@Nullable String containerId) {
+        if (containerId != null) {
+            ExecChannel channel = CHANNELS.remove(containerId);
+            if (channel != null) {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Runs a command, interpreting its output as UTF8.
+     *
+     * @see #exec(Charset, String...)
+     */
+    public Container.ExecResult exec(String... command) throws IOException, InterruptedException {
+        return exec(StandardCharsets.UTF_8, command);
+    }
+
+    /**
+     * @return whether a command didn't complete in time, which closed the channel
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     * Runs a command, waiting for the commands run before to complete. If the waiting thread is interrupted, or the
+     * command times out, the channel is closed, as the output of the running command can't be told apart from the
+     * output of the next one.
+     *
+     * @param outputCharset the character set used to interpret the output
+     * @param command the parts of the command to run
+     * @return the result of the command
+     * @throws IOException if the shell can't be started, ended, or the command timed out
+     * @throws InterruptedException if the thread waiting for the result is interrupted
+     */
+    public synchronized Container.ExecResult exec(Charset outputCharset, String... command)
+        throws IOException, InterruptedException {
+        if (closed) {
+            throw new IOException("The exec channel of " + containerName + " is closed");
+        }
+        if (!started) {
+            start();
+        }
+
+        String marker = "__testcontainers_" + UUID.randomUUID().toString().replace("-", "");
+        StringBuilder script = new StringBuilder();
+        for (String part : command) {
+            script.append(quote(part)).append(' ');
+        }
+        script
+            .append("</dev/null; __testcontainers_exit=$?; ")
+            .append("printf '%s\\n' ")
+            .append(marker)
+            .append(" >&2; ")
+            .append("printf '%s %d\\n' ")
+            .append(marker)
+            .append(" $__testcontainers_exit\n");
+
+        log.debug("{}: Running command in exec channel: {}", containerName, String.join(" ", command));
+        input.add(script.toString().getBytes(StandardCharsets.UTF_8));
+
+        byte[] stdoutMarker = (marker + " ").getBytes(StandardCharsets.UTF_8);
+        byte[] stderrMarker = (marker + "\n").getBytes(StandardCharsets.UTF_8);
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            synchronized (callback) {
+                while (true) {
+                    byte[] stdoutBytes = stdout.toByteArray();
+                    byte[] stderrBytes = stderr.toByteArray();
+                    int stdoutEnd = indexOf(stdoutBytes, stdoutMarker);
+                    int stderrEnd = indexOf(stderrBytes, stderrMarker);
+                    int exitCodeEnd = stdoutEnd < 0 ? -1 : indexOf(stdoutBytes, stdoutEnd + stdoutMarker.length, '\n');
+                    if (exitCodeEnd >= 0 && stderrEnd >= 0) {
+                        int exitCode = Integer.parseInt(
+                            new String(
+                                stdoutBytes,
+                                stdoutEnd + stdoutMarker.length,
+                                exitCodeEnd - stdoutEnd - stdoutMarker.length,
+                                StandardCharsets.UTF_8
+                            )
+                        );
+                        Container.ExecResult result = new Container.ExecResult(
+                            exitCode,
+                            new String(stdoutBytes, 0, stdoutEnd, outputCharset),
+                            new String(stderrBytes, 0, stderrEnd, outputCharset)
+                        );
+                        stdout.reset();
+                        stderr.reset();
+                        return result;
+                    }
+                    if (callback.ended) {
+                        throw new IOException("The exec channel of " + containerName + " ended");
+                    }
+                    long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                    if (remainingMillis <= 0) {
+                        timedOut = true;
+                        throw new IOException(
+                            String.format(
+                                "The command in the exec channel of %s didn't complete within %s",
+                                containerName,
+                                timeout
+                            )
+                        );
+                    }
+                    callback.wait(remainingMillis);
+                }
+            }
+        } catch (InterruptedException | IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        unregister();
+        input.add(END_OF_INPUT);
+        try {
+            callback.close();
+        } catch (IOException e) {
+            log.debug("{}: Failed to close the exec channel", containerName, e);
+        }
+    }
+
+    private void unregister() {
+        // a timed out channel stays registered until the container stops, to run its commands individually
+        if (!timedOut) {
+            CHANNELS.remove(containerId, this);
+        }
+    }
+
+    private void start() {
+        String execId = dockerClient
+            .execCreateCmd(containerId)
+            .withAttachStdin(true)
+            .withAttachStdout(true)
+            .withAttachStderr(true)
+            .withCmd("/bin/sh")
+            .exec()
+            .getId();
+        dockerClient.execStartCmd(execId).withStdIn(new CommandInputStream()).exec(callback);
+        started = true;
+    }
+
+    private static String quote(String part) {
+        return "'" + part.replace("'", "'\\''") + "'";
+    }
+
+    private static int indexOf(byte[] bytes, byte[] target) {
+        for (int i = 0; i <= bytes.length - target.length; i++) {
+            if (startsWith(bytes, i, target)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean startsWith(byte[] bytes, int offset, byte[] prefix) {
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(byte[] bytes, int fromIndex, char target) {
+        for (int i = fromIndex; i < bytes.length; i++) {
+            if (bytes[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Collects the output of the shell, notifying the thread waiting for the end of a command.
+     */
+    private final class OutputCallback extends ResultCallback.Adapter<Frame> {
+
+        private boolean ended;
+
+        @Override
+        public void onNext(Frame frame) {
+            byte[] payload = frame.getPayload();
+            if (payload == null) {
+                return;
+            }
+            synchronized (this) {
+                if (frame.getStreamType() == StreamType.STDERR) {
+                    stderr.write(payload, 0, payload.length);
+                } else {
+                    stdout.write(payload, 0, payload.length);
+                }
+                notifyAll();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            log.debug("{}: The exec channel failed", containerName, throwable);
+            end();
+            super.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            end();
+            super.onComplete();
+        }
+
+        private synchronized void end() {
+            ended = true;
+            closed = true;
+            unregister();
+            notifyAll();
+        }
+    }
+
+    /**
+     * Standard input of the shell, blocking until commands are written.
+     */
+    private final class CommandInputStream extends InputStream {
+
+        private byte[] current = new byte[0];
+
+        private int position;
+
+        @Override
+        public int read() throws IOException {
+            byte[] buffer = new byte[1];
+            return read(buffer, 0, 1) < 0 ? -1 : buffer[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (position == current.length) {
+                if (current == END_OF_INPUT) {
+                    return -1;
+                }
+                try {
+                    current = input.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for a command", e);
+                }
+                position = 0;
+                if (current == END_OF_INPUT) {
+                    return -1;
+                }
+            }
+            int count = Math.min(len, current.length - position);
+            System.arraycopy(current, position, b, off, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+            input.add(END_OF_INPUT);
+        }
+    }
+}
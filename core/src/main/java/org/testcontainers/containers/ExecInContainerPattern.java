@@ -8,6 +8,7 @@ import com.github.dockerjava.api.exception.DockerException;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.testcontainers.DockerClientFactory;
+import org.testcontainers.UnstableAPI;
 import org.testcontainers.containers.output.FrameConsumerResultCallback;
 import org.testcontainers.containers.output.OutputFrame;
 import org.testcontainers.containers.output.ToStringConsumer;
@@ -185,6 +186,60 @@ public class ExecInContainerPattern {
         Charset outputCharset,
         ExecConfig execConfig
     ) throws UnsupportedOperationException, IOException, InterruptedException {
+        final ExecCreateCmdResponse execCreateCmdResponse = createExec(dockerClient, containerInfo, execConfig, false);
+
+        final ToStringConsumer stdoutConsumer = new ToStringConsumer();
+        final ToStringConsumer stderrConsumer = new ToStringConsumer();
+
+        try (FrameConsumerResultCallback callback = new FrameConsumerResultCallback()) {
+            callback.addConsumer(OutputFrame.OutputType.STDOUT, stdoutConsumer);
+            callback.addConsumer(OutputFrame.OutputType.STDERR, stderrConsumer);
+
+            dockerClient.execStartCmd(execCreateCmdResponse.getId()).exec(callback).awaitCompletion();
+        }
+        int exitCode = dockerClient.inspectExecCmd(execCreateCmdResponse.getId()).exec().getExitCodeLong().intValue();
+
+        final Container.ExecResult result = new Container.ExecResult(
+            exitCode,
+            stdoutConsumer.toString(outputCharset),
+            stderrConsumer.toString(outputCharset)
+        );
+
+        log.trace("{}: stdout: {}", containerInfo.getName(), result.getStdout());
+        log.trace("{}: stderr: {}", containerInfo.getName(), result.getStderr());
+        return result;
+    }
+
+    /**
+     * Start a command inside a running container, as though using "docker exec -i", streaming its standard input and
+     * output with bounded buffers instead of collecting its output.
+     * <p>
+     * This functionality is not available on a docker daemon running the older "lxc" execution
+     * driver. At the time of writing, CircleCI was using this driver.
+     * @param dockerClient the {@link DockerClient}
+     * @param containerInfo the container info
+     * @param execConfig the exec configuration
+     * @return the running command
+     * @throws UnsupportedOperationException if the docker daemon you're connecting to doesn't support "exec".
+     */
+    @UnstableAPI
+    public ExecProcess execInContainerStreaming(
+        DockerClient dockerClient,
+        InspectContainerResponse containerInfo,
+        ExecConfig execConfig
+    ) throws UnsupportedOperationException {
+        ExecCreateCmdResponse execCreateCmdResponse = createExec(dockerClient, containerInfo, execConfig, true);
+        ExecProcess process = new ExecProcess(dockerClient, execCreateCmdResponse.getId(), containerInfo.getName());
+        process.start();
+        return process;
+    }
+
+    private ExecCreateCmdResponse createExec(
+        DockerClient dockerClient,
+        InspectContainerResponse containerInfo,
+        ExecConfig execConfig,
+        boolean attachStdin
+    ) {
         if (!TestEnvironment.dockerExecutionDriverSupportsExec()) {
             // at time of writing, this is the expected result in CircleCI.
             throw new UnsupportedOperationException(
@@ -205,6 +260,7 @@ public class ExecInContainerPattern {
             .execCreateCmd(containerId)
             .withAttachStdout(true)
             .withAttachStderr(true)
+            .withAttachStdin(attachStdin)
             .withCmd(command);
 
         String user = execConfig.getUser();
@@ -229,28 +285,7 @@ public class ExecInContainerPattern {
             execCreateCmd.withEnv(envVarList);
         }
 
-        final ExecCreateCmdResponse execCreateCmdResponse = execCreateCmd.exec();
-
-        final ToStringConsumer stdoutConsumer = new ToStringConsumer();
-        final ToStringConsumer stderrConsumer = new ToStringConsumer();
-
-        try (FrameConsumerResultCallback callback = new FrameConsumerResultCallback()) {
-            callback.addConsumer(OutputFrame.OutputType.STDOUT, stdoutConsumer);
-            callback.addConsumer(OutputFrame.OutputType.STDERR, stderrConsumer);
-
-            dockerClient.execStartCmd(execCreateCmdResponse.getId()).exec(callback).awaitCompletion();
-        }
-        int exitCode = dockerClient.inspectExecCmd(execCreateCmdResponse.getId()).exec().getExitCodeLong().intValue();
-
-        final Container.ExecResult result = new Container.ExecResult(
-            exitCode,
-            stdoutConsumer.toString(outputCharset),
-            stderrConsumer.toString(outputCharset)
-        );
-
-        log.trace("{}: stdout: {}", containerName, result.getStdout());
-        log.trace("{}: stderr: {}", containerName, result.getStderr());
-        return result;
+        return execCreateCmd.exec();
     }
 
     private boolean isRunning(InspectContainerResponse containerInfo) {
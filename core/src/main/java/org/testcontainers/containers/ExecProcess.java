@@ -0,0 +1,271 @@
+package org.testcontainers.containers;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.UnstableAPI;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A command running in a container, as though using "docker exec -i", with its standard input and output streamed
+ * instead of buffered.
+ * <p>
+ * Each stream is backed by a fixed size buffer. While the buffer of an output stream is full, no further output is
+ * read from Docker, so that the memory used doesn't depend on the size of the output. As both output streams are
+ * read from the same connection, they both have to be read, e.g. on separate threads, or closed to discard them.
+ * <p>
+ * Closing the standard input signals its end to the command. Closing the process stops reading its output, but
+ * doesn't stop the command, as Docker has no way to stop a single exec instance.
+ *
+ * @see ContainerState#execInContainerStreaming(ExecConfig)
+ */
+@UnstableAPI
+@Slf4j
+public final class ExecProcess implements AutoCloseable {
+
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private final DockerClient dockerClient;
+
+    private final String execId;
+
+    private final String containerName;
+
+    private final Pipe stdout = new Pipe();
+
+    private final Pipe stderr = new Pipe();
+
+    private final Pipe stdin = new Pipe();
+
+    private final CompletableFuture<Integer> exitCode = new CompletableFuture<>();
+
+    private final OutputCallback callback = new OutputCallback();
+
+    ExecProcess(DockerClient dockerClient, String execId, String containerName) {
+        this.dockerClient = dockerClient;
+        this.execId = execId;
+        this.containerName = containerName;
+    }
+
+    void start() {
+        dockerClient.execStartCmd(execId).withStdIn(stdin.inputStream).exec(callback);
+    }
+
+    /**
+     * @return the standard output of the command
+     */
+    public InputStream getStdout() {
+        return stdout.inputStream;
+    }
+
+    /**
+     * @return the standard error of the command
+     */
+    public InputStream getStderr() {
+        return stderr.inputStream;
+    }
+
+    /**
+     * @return the standard input of the command, to be closed once written
+     */
+    public OutputStream getStdin() {
+        return stdin.outputStream;
+    }
+
+    /**
+     * @return the exit code of the command, once its output ended
+     */
+    public CompletableFuture<Integer> getExitCode() {
+        return exitCode;
+    }
+
+    @Override
+    public void close() {
+        stdin.closeWrite();
+        stdout.closeRead();
+        stderr.closeRead();
+        try {
+            callback.close();
+        } catch (IOException e) {
+            log.debug("{}: Failed to close the output of exec {}", containerName, execId, e);
+        }
+        exitCode.completeExceptionally(new IOException("The output of exec " + execId + " was closed before it ended"));
+    }
+
+    /**
+     * Writes the output of the command to the pipes of its streams, blocking while they are full.
+     */
+    private final class OutputCallback extends ResultCallback.Adapter<Frame> {
+
+        @Override
+        public void onNext(Frame frame) {
+            byte[] payload = frame.getPayload();
+            if (payload == null) {
+                return;
+            }
+            try {
+                (frame.getStreamType() == StreamType.STDERR ? stderr : stdout).write(payload, 0, payload.length);
+            } catch (IOException e) {
+                log.debug("{}: Failed to write the output of exec {}", containerName, execId, e);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            end();
+            exitCode.completeExceptionally(throwable);
+            super.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            end();
+            try {
+                Long code = dockerClient.inspectExecCmd(execId).exec().getExitCodeLong();
+                exitCode.complete(code == null ? null : code.intValue());
+            } catch (RuntimeException e) {
+                exitCode.completeExceptionally(e);
+            }
+            super.onComplete();
+        }
+
+        private void end() {
+            stdout.closeWrite();
+            stderr.closeWrite();
+            stdin.closeWrite();
+        }
+    }
+
+    /**
+     * A bounded buffer between a writing and a reading thread. Writes block while it is full, and are discarded once
+     * the reading side is closed.
+     */
+    private static final class Pipe {
+
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+
+        private int head;
+
+        private int size;
+
+        private boolean writeClosed;
+
+        private boolean readClosed;
+
+        private final InputStream inputStream = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                byte[] b = new byte[1];
+                return Pipe.this.read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return Pipe.this.read(b, off, len);
+            }
+
+            @Override
+            public int available() {
+                synchronized (Pipe.this) {
+                    return size;
+                }
+            }
+
+            @Override
+            public void close() {
+                closeRead();
+            }
+        };
+
+        private final OutputStream outputStream = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                Pipe.this.write(new byte[] { (byte) b }, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                Pipe.this.write(b, off, len);
+            }
+
+            @Override
+            public void close() {
+                closeWrite();
+            }
+        };
+
+        private synchronized int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            try {
+                while (size == 0 && !writeClosed && !readClosed) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for exec output");
+            }
+            if (readClosed) {
+                throw new IOException("Stream closed");
+            }
+            if (size == 0) {
+                return -1;
+            }
+
+            int count = Math.min(len, size);
+            int firstPart = Math.min(count, buffer.length - head);
+            System.arraycopy(buffer, head, b, off, firstPart);
+            System.arraycopy(buffer, 0, b, off + firstPart, count - firstPart);
+            head = (head + count) % buffer.length;
+            size -= count;
+            notifyAll();
+            return count;
+        }
+
+        private synchronized void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                try {
+                    while (size == buffer.length && !writeClosed && !readClosed) {
+                        wait();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for the exec stream to be read");
+                }
+                if (writeClosed) {
+                    throw new IOException("Stream closed");
+                }
+                if (readClosed) {
+                    return;
+                }
+
+                int tail = (head + size) % buffer.length;
+                int count = Math.min(len, Math.min(buffer.length - size, buffer.length - tail));
+                System.arraycopy(b, off, buffer, tail, count);
+                size += count;
+                off += count;
+                len -= count;
+                notifyAll();
+            }
+        }
+
+        private synchronized void closeWrite() {
+            writeClosed = true;
+            notifyAll();
+        }
+
+        private synchronized void closeRead() {
+            readClosed = true;
+            size = 0;
+            notifyAll();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.testcontainers.containers;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.github.dockerjava.api.DockerClient;
 import com.github.dockerjava.api.command.CreateContainerCmd;
@@ -34,13 +35,13 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.junit.runner.Description;
 import org.junit.runners.model.Statement;
-import org.rnorth.ducttape.ratelimits.RateLimiter;
-import org.rnorth.ducttape.ratelimits.RateLimiterBuilder;
 import org.rnorth.ducttape.unreliables.Unreliables;
 import org.slf4j.Logger;
 import org.testcontainers.DockerClientFactory;
 import org.testcontainers.UnstableAPI;
+import org.testcontainers.containers.output.AsyncOutputFrameDispatcher;
 import org.testcontainers.containers.output.OutputFrame;
+import org.testcontainers.containers.output.TailConsumer;
 import org.testcontainers.containers.startupcheck.IsRunningStartupCheckStrategy;
 import org.testcontainers.containers.startupcheck.MinimumDurationRunningStartupCheckStrategy;
 import org.testcontainers.containers.startupcheck.StartupCheckStrategy;
@@ -48,6 +49,8 @@ import org.testcontainers.containers.traits.LinkableContainer;
 import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.containers.wait.strategy.WaitStrategy;
 import org.testcontainers.containers.wait.strategy.WaitStrategyTarget;
+import org.testcontainers.core.ContainerLifecycleListener;
+import org.testcontainers.core.ContainerLifecycleListener.Phase;
 import org.testcontainers.core.CreateContainerCmdModifier;
 import org.testcontainers.images.ImagePullPolicy;
 import org.testcontainers.images.RemoteDockerImage;
@@ -61,6 +64,7 @@ import org.testcontainers.utility.CommandLine;
 import org.testcontainers.utility.DockerImageName;
 import org.testcontainers.utility.DockerLoggerFactory;
 import org.testcontainers.utility.DockerMachineClient;
+import org.testcontainers.utility.LogUtils;
 import org.testcontainers.utility.DynamicPollInterval;
 import org.testcontainers.utility.MountableFile;
 import org.testcontainers.utility.PathUtils;
@@ -71,6 +75,7 @@ import java.io.File;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.UndeclaredThrowableException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
@@ -91,6 +96,7 @@ import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -98,7 +104,6 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.zip.Adler32;
 import java.util.zip.Checksum;
 
 import static org.awaitility.Awaitility.await;
@@ -119,6 +124,8 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
 
     static final String COPIED_FILES_HASH_LABEL = "org.testcontainers.copied_files.hash";
 
+    static final String SNAPSHOT_REPOSITORY = "testcontainers-snapshot";
+
     /*
      * Default settings
      */
@@ -181,6 +188,32 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
     @Setter(AccessLevel.NONE)
     private InspectContainerResponse containerInfo;
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Nullable
+    private ContainerInfoCache containerInfoCache;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Nullable
+    private ContainerPool<?> containerPool;
+
+    /**
+     * Configuration hash of the container, set during container startup if it uses or fills a pool
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Nullable
+    private String containerPoolKey;
+
+    /**
+     * Whether the container is started by a {@link ContainerPool} to fill it, so that it computes its pool key without
+     * taking a container from the pool.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    boolean poolWarmUp;
+
     static WaitStrategy DEFAULT_WAIT_STRATEGY = Wait.defaultWaitStrategy();
 
     /**
@@ -191,13 +224,23 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
 
     private List<Consumer<OutputFrame>> logConsumers = new ArrayList<>();
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Nullable
+    private AsyncOutputFrameDispatcher logDispatcher;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Nullable
+    private TailConsumer logTail;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private int portMappingInspectCalls;
+
     private static final Set<String> AVAILABLE_IMAGE_NAME_CACHE = new HashSet<>();
 
-    private static final RateLimiter DOCKER_CLIENT_RATE_LIMITER = RateLimiterBuilder
-        .newBuilder()
-        .withRate(1, TimeUnit.SECONDS)
-        .withConstantThroughput()
-        .build();
+    private static final Duration START_EVENT_TIMEOUT = Duration.ofSeconds(1);
 
     @Nullable
     private Map<String, String> tmpFsMapping;
@@ -205,10 +248,16 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
     @Setter(AccessLevel.NONE)
     private boolean shouldBeReused = false;
 
+    @Setter(AccessLevel.NONE)
+    private boolean snapshotAfterStartup = false;
+
     private boolean hostAccessible = false;
 
     private final Set<CreateContainerCmdModifier> createContainerCmdModifiers = loadCreateContainerCmdCustomizers();
 
+    @Getter(AccessLevel.NONE)
+    private final Set<ContainerLifecycleListener> lifecycleListeners = loadLifecycleListeners();
+
     private ContainerDef containerDef;
 
     ContainerDef createContainerDef() {
@@ -230,6 +279,14 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
         return loadedCustomizers;
     }
 
+    private Set<ContainerLifecycleListener> loadLifecycleListeners() {
+        Set<ContainerLifecycleListener> loadedListeners = new LinkedHashSet<>();
+        for (ContainerLifecycleListener listener : ServiceLoader.load(ContainerLifecycleListener.class)) {
+            loadedListeners.add(listener);
+        }
+        return loadedListeners;
+    }
+
     public GenericContainer(@NonNull final DockerImageName dockerImageName) {
         this(new RemoteDockerImage(dockerImageName));
     }
@@ -379,10 +436,16 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
     }
 
     private void tryStart() {
+        ReusableContainerLock reuseLock = null;
+        StartupPhaseTimer phaseTimer = new StartupPhaseTimer(lifecycleListeners, this::getContainerId);
+        logTail = null;
         try {
+            phaseTimer.start(Phase.IMAGE_RESOLUTION);
             String dockerImageName = getDockerImageName();
+            phaseTimer.imageResolved(dockerImageName);
             logger().debug("Starting container: {}", dockerImageName);
 
+            phaseTimer.start(Phase.CREATE);
             Instant startedAt = Instant.now();
             logger().info("Creating container for image: {}", dockerImageName);
             CreateContainerCmd createCommand = dockerClient.createContainerCmd(dockerImageName);
@@ -390,20 +453,49 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
 
             createCommand.getLabels().putAll(DockerClientFactory.DEFAULT_LABELS);
 
+            CopyToContainerBatch copyToContainerBatch = createCopyToContainerBatch();
+
+            // identifies interchangeable containers, for pooling, reuse and snapshots
+            String configurationHash = null;
+            boolean reuseEnabled = shouldBeReused && TestcontainersConfiguration.getInstance().environmentSupportsReuse();
+            if (containerPool != null || poolWarmUp || reuseEnabled || snapshotAfterStartup) {
+                createCommand
+                    .getLabels()
+                    .put(COPIED_FILES_HASH_LABEL, Long.toHexString(copyToContainerBatch.checksum().getValue()));
+                configurationHash = hash(createCommand);
+            }
+
             boolean reused = false;
+            if (containerPool != null || poolWarmUp) {
+                if (!canBeReused()) {
+                    throw new IllegalStateException("This container does not support pooling");
+                }
+
+                containerPoolKey = configurationHash;
+            }
+            if (containerPool != null) {
+                containerId = containerPool.acquire(containerPoolKey).orElse(null);
+                if (containerId != null) {
+                    logger().info("Using container with ID: {} from {}", containerId, containerPool);
+                    reused = true;
+                }
+            }
+
             final boolean reusable;
-            if (shouldBeReused) {
+            if (shouldBeReused && !reused) {
                 if (!canBeReused()) {
                     throw new IllegalStateException("This container does not support reuse");
                 }
 
-                if (TestcontainersConfiguration.getInstance().environmentSupportsReuse()) {
-                    createCommand
-                        .getLabels()
-                        .put(COPIED_FILES_HASH_LABEL, Long.toHexString(hashCopiedFiles().getValue()));
-
-                    String hash = hash(createCommand);
+                if (reuseEnabled) {
+                    String hash = configurationHash;
 
+                    // wait for concurrent JVMs creating a container with the same hash, then reuse it
+                    reuseLock =
+                        ReusableContainerLock.acquire(
+                            hash,
+                            TestcontainersConfiguration.getInstance().getReuseLockTimeout()
+                        );
                     containerId = findContainerForReuse(hash).orElse(null);
 
                     if (containerId != null) {
@@ -429,6 +521,28 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
                 reusable = false;
             }
 
+            String snapshotImageName = null;
+            boolean fromSnapshot = false;
+            if (snapshotAfterStartup && !reused) {
+                if (!canBeReused()) {
+                    throw new IllegalStateException("This container does not support snapshots");
+                }
+
+                snapshotImageName = snapshotImageName(dockerImageName, configurationHash);
+                if (imageExists(snapshotImageName)) {
+                    logger().info("Creating container from snapshot image: {}", snapshotImageName);
+                    createCommand.withImage(snapshotImageName);
+                    fromSnapshot = true;
+                }
+            }
+            // containers created from a snapshot are already initialized, like reused ones
+            final boolean initialized = reused || fromSnapshot;
+
+            // after hashing, so that the reuse hash still covers the content of the mounted files
+            if (!reused && !snapshotAfterStartup && copiesFilesInBatch()) {
+                bindLargeCopiedFiles(createCommand, copyToContainerBatch, reusable);
+            }
+
             if (!reusable) {
                 //noinspection deprecation
                 createCommand = ResourceReaper.instance().register(this, createCommand);
@@ -437,56 +551,50 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
             if (!reused) {
                 containerId = createCommand.exec().getId();
 
-                // TODO use single "copy" invocation (and calculate an hash of the resulting tar archive)
-                copyToFileContainerPathMap.forEach(this::copyFileToContainer);
+                phaseTimer.start(Phase.COPY_FILES);
+                // the files of a container created from a snapshot have already been copied
+                if (!fromSnapshot) {
+                    if (copiesFilesInBatch()) {
+                        copyToContainerBatch.transferTo(dockerClient, containerId);
+                    } else {
+                        copyToFileContainerPathMap.forEach(this::copyFileToContainer);
 
-                copyToTransferableContainerPathMap.forEach(this::copyFileToContainer);
+                        copyToTransferableContainerPathMap.forEach(this::copyFileToContainer);
+                    }
+                }
             }
 
+            phaseTimer.start(Phase.START);
             connectToPortForwardingNetwork(createCommand.getNetworkMode());
 
-            if (!reused) {
-                containerIsCreated(containerId);
+            try (ContainerEventSubscription startEvents = subscribeToStartEvent(reused)) {
+                if (!reused) {
+                    containerIsCreated(containerId);
 
-                logger().info("Container {} is starting: {}", dockerImageName, containerId);
-                dockerClient.startContainerCmd(containerId).exec();
-            } else {
-                logger().info("Reusing existing container ({}) and not creating a new one", containerId);
-            }
+                    logger().info("Container {} is starting: {}", dockerImageName, containerId);
+                    dockerClient.startContainerCmd(containerId).exec();
+                } else {
+                    logger().info("Reusing existing container ({}) and not creating a new one", containerId);
+                }
 
-            // For all registered output consumers, start following as close to container startup as possible
-            this.logConsumers.forEach(this::followOutput);
+                // For all registered output consumers, start following as close to container startup as possible
+                followLogConsumers();
 
-            // Wait until inspect container returns the mapped ports
-            containerInfo =
-                await()
-                    .atMost(5, TimeUnit.SECONDS)
-                    .pollInterval(DynamicPollInterval.ofMillis(50))
-                    .pollInSameThread()
-                    .until(
-                        () -> dockerClient.inspectContainerCmd(containerId).exec(),
-                        inspectContainerResponse -> {
-                            Set<ExposedPort> exposedAndMappedPorts = inspectContainerResponse
-                                .getNetworkSettings()
-                                .getPorts()
-                                .getBindings()
-                                .entrySet()
-                                .stream()
-                                .filter(it -> Objects.nonNull(it.getValue())) // filter out exposed but not yet mapped
-                                .map(Entry::getKey)
-                                .collect(Collectors.toSet());
-
-                            return exposedAndMappedPorts.containsAll(this.containerDef.getExposedPorts());
-                        }
-                    );
+                // Wait until inspect container returns the mapped ports
+                phaseTimer.start(Phase.PORT_MAPPING);
+                containerInfo = awaitPortMappings(startEvents);
+            }
+
+            containerInfoCache = createContainerInfoCache();
 
+            phaseTimer.start(Phase.STARTUP_CHECK);
             String emulationWarning = checkForEmulation();
             if (emulationWarning != null) {
                 logger().warn(emulationWarning);
             }
 
             // Tell subclasses that we're starting
-            containerIsStarting(containerInfo, reused);
+            containerIsStarting(containerInfo, initialized);
 
             // Wait until the container has reached the desired running state
             if (!this.startupCheckStrategy.waitUntilStartupSuccessful(this)) {
@@ -496,6 +604,7 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
             }
 
             // Wait until the process within the container has become ready for use (e.g. listening on network, log message emitted, etc).
+            phaseTimer.start(Phase.WAIT_STRATEGY);
             try {
                 waitUntilContainerStarted();
             } catch (Exception e) {
@@ -539,7 +648,13 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
             }
 
             logger().info("Container {} started in {}", dockerImageName, Duration.between(startedAt, Instant.now()));
-            containerIsStarted(containerInfo, reused);
+            phaseTimer.start(Phase.STARTED_HOOKS);
+            containerIsStarted(containerInfo, initialized);
+            phaseTimer.complete();
+
+            if (snapshotImageName != null && !fromSnapshot) {
+                commitSnapshot(snapshotImageName);
+            }
         } catch (Exception e) {
             if (e instanceof UndeclaredThrowableException && e.getCause() instanceof Exception) {
                 e = (Exception) e.getCause();
@@ -547,59 +662,225 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
             if (e instanceof InvocationTargetException && e.getCause() instanceof Exception) {
                 e = (Exception) e.getCause();
             }
+            phaseTimer.fail();
             logger().error("Could not start container", e);
+            closeContainerInfoCache();
 
             if (containerId != null) {
                 // Log output if startup failed, either due to a container failure or exception (including timeout)
-                final String containerLogs = getLogs();
-
-                if (containerLogs.length() > 0) {
-                    logger().error("Log output from the failed container:\n{}", getLogs());
-                } else {
-                    logger().error("There are no stdout/stderr logs available for the failed container");
-                }
+                logFailedContainerOutput();
             }
 
             throw new ContainerLaunchException("Could not create/start container", e);
+        } finally {
+            if (reuseLock != null) {
+                reuseLock.close();
+            }
+        }
+    }
+
+    @Nullable
+    private ContainerInfoCache createContainerInfoCache() {
+        Duration ttl = TestcontainersConfiguration.getInstance().getInspectCacheTtl();
+        if (ttl.isZero() || ttl.isNegative()) {
+            return null;
+        }
+        return new ContainerInfoCache(dockerClient, containerId, ttl);
+    }
+
+    private void closeContainerInfoCache() {
+        if (containerInfoCache != null) {
+            containerInfoCache.close();
+            containerInfoCache = null;
+        }
+    }
+
+    /**
+     * Inspects the container and returns up-to-date inspection response.
+     * <p>
+     * If the inspect cache is enabled (see {@link TestcontainersConfiguration#getInspectCacheTtl()}), the response
+     * of a running container may be up to the configured time to live old, unless the container was stopped or its
+     * health status changed in the meantime.
+     *
+     * @return up-to-date container inspect response
+     * @see #getContainerInfo()
+     */
+    @Override
+    public InspectContainerResponse getCurrentContainerInfo() {
+        ContainerInfoCache cache = containerInfoCache;
+        if (cache != null) {
+            return cache.get();
         }
+        return getDockerClient().inspectContainerCmd(getContainerId()).exec();
     }
 
     @VisibleForTesting
     Checksum hashCopiedFiles() {
-        Checksum checksum = new Adler32();
-        Stream
-            .of(copyToFileContainerPathMap, copyToTransferableContainerPathMap)
-            .flatMap(it -> it.entrySet().stream())
-            .sorted(Entry.comparingByValue())
-            .forEach(entry -> {
-                byte[] pathBytes = entry.getValue().getBytes();
-                // Add path to the hash
-                checksum.update(pathBytes, 0, pathBytes.length);
-
-                entry.getKey().updateChecksum(checksum);
-            });
-        return checksum;
+        return createCopyToContainerBatch().checksum();
+    }
+
+    private CopyToContainerBatch createCopyToContainerBatch() {
+        CopyToContainerBatch batch = new CopyToContainerBatch();
+        copyToFileContainerPathMap.forEach(batch::add);
+        copyToTransferableContainerPathMap.forEach(batch::add);
+        return batch;
+    }
+
+    @Nullable
+    private ContainerEventSubscription subscribeToStartEvent(boolean reused) {
+        if (reused || !TestcontainersConfiguration.getInstance().isStartupEventsEnabled()) {
+            return null;
+        }
+        return ContainerEventSubscription.subscribe(dockerClient, containerId, "start");
+    }
+
+    /**
+     * Waits until all exposed ports are mapped. If the start event of the container is received, a single inspect
+     * is usually enough, otherwise the container is polled.
+     */
+    private InspectContainerResponse awaitPortMappings(@Nullable ContainerEventSubscription startEvents)
+        throws Exception {
+        Instant waitStartedAt = Instant.now();
+        AtomicInteger inspectCalls = new AtomicInteger();
+        Callable<InspectContainerResponse> inspect = () -> {
+            inspectCalls.incrementAndGet();
+            return dockerClient.inspectContainerCmd(containerId).exec();
+        };
+
+        InspectContainerResponse response = null;
+        boolean startEventReceived = startEvents != null && startEvents.awaitEvent("start", START_EVENT_TIMEOUT);
+        if (startEventReceived) {
+            response = inspect.call();
+        }
+        if (response == null || !arePortsMapped(response)) {
+            response =
+                await()
+                    .atMost(5, TimeUnit.SECONDS)
+                    .pollInterval(DynamicPollInterval.ofMillis(50))
+                    .pollInSameThread()
+                    .until(inspect, this::arePortsMapped);
+        }
+
+        portMappingInspectCalls = inspectCalls.get();
+        logger()
+            .debug(
+                "Ports of container {} mapped after {} inspect call(s) ({}) in {}",
+                containerId,
+                inspectCalls.get(),
+                startEventReceived ? "start event received" : "polling",
+                Duration.between(waitStartedAt, Instant.now())
+            );
+        return response;
+    }
+
+    private boolean arePortsMapped(InspectContainerResponse inspectContainerResponse) {
+        Set<ExposedPort> exposedAndMappedPorts = inspectContainerResponse
+            .getNetworkSettings()
+            .getPorts()
+            .getBindings()
+            .entrySet()
+            .stream()
+            .filter(it -> Objects.nonNull(it.getValue())) // filter out exposed but not yet mapped
+            .map(Entry::getKey)
+            .collect(Collectors.toSet());
+
+        return exposedAndMappedPorts.containsAll(this.containerDef.getExposedPorts());
+    }
+
+    /**
+     * Replaces the copies of large files by read-only bind mounts, if enabled and supported by the Docker environment.
+     * Files extracted from JARs are still copied to reusable containers, as they are deleted when the JVM exits.
+     */
+    private void bindLargeCopiedFiles(CreateContainerCmd createCommand, CopyToContainerBatch batch, boolean reusable) {
+        long threshold = TestcontainersConfiguration.getInstance().getCopyBindThreshold();
+        if (threshold <= 0 || batch.isEmpty() || !DockerClientFactory.instance().isFileMountingSupported()) {
+            return;
+        }
+
+        List<Bind> binds = batch.removeBindMountableFiles(threshold, !reusable);
+        if (binds.isEmpty()) {
+            return;
+        }
+
+        HostConfig hostConfig = createCommand.getHostConfig();
+        List<Bind> allBinds = new ArrayList<>();
+        if (hostConfig.getBinds() != null) {
+            allBinds.addAll(Arrays.asList(hostConfig.getBinds()));
+        }
+        allBinds.addAll(binds);
+        hostConfig.withBinds(allBinds);
+        logger().debug("Bind mounting {} file(s) of at least {} bytes instead of copying them", binds.size(), threshold);
     }
 
     @UnstableAPI
     @SneakyThrows(JsonProcessingException.class)
     final String hash(CreateContainerCmd createCommand) {
-        DefaultDockerClientConfig dockerClientConfig = DefaultDockerClientConfig.createDefaultConfigBuilder().build();
+        byte[] commandJson = HashObjectMapperHolder.INSTANCE.writeValueAsBytes(createCommand);
+
+        // TODO add Testcontainers' version to the hash
+        return Hashing.sha1().hashBytes(commandJson).toString();
+    }
 
-        byte[] commandJson = dockerClientConfig
+    /**
+     * Building the Docker client config and copying its object mapper is expensive, so it is only done once.
+     */
+    private static final class HashObjectMapperHolder {
+
+        private static final ObjectMapper INSTANCE = DefaultDockerClientConfig
+            .createDefaultConfigBuilder()
+            .build()
             .getObjectMapper()
             .copy()
             .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
-            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
-            .writeValueAsBytes(createCommand);
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    }
 
-        // TODO add Testcontainers' version to the hash
-        return Hashing.sha1().hashBytes(commandJson).toString();
+    /**
+     * Snapshots are keyed by the configuration hash and the ID of the base image, so that a snapshot isn't used
+     * anymore once the base image changed, e.g. when a moving tag like {@code latest} was pulled again.
+     */
+    @VisibleForTesting
+    String snapshotImageName(String dockerImageName, String configurationHash) {
+        String imageId = dockerClient.inspectImageCmd(dockerImageName).exec().getId();
+        return (
+            SNAPSHOT_REPOSITORY +
+            ":" +
+            Hashing.sha1().hashString(configurationHash + "/" + imageId, StandardCharsets.UTF_8).toString()
+        );
+    }
+
+    @Nullable
+    String getContainerPoolKey() {
+        return containerPoolKey;
+    }
+
+    private boolean imageExists(String imageName) {
+        try {
+            dockerClient.inspectImageCmd(imageName).exec();
+            return true;
+        } catch (NotFoundException e) {
+            return false;
+        }
+    }
+
+    private void commitSnapshot(String snapshotImageName) {
+        DockerImageName snapshot = DockerImageName.parse(snapshotImageName);
+        try {
+            dockerClient
+                .commitCmd(containerId)
+                .withRepository(snapshot.getUnversionedPart())
+                .withTag(snapshot.getVersionPart())
+                // the snapshot must outlive this session, so it must not inherit the session label of the container
+                .withLabels(Collections.singletonMap(DockerClientFactory.TESTCONTAINERS_SESSION_ID_LABEL, ""))
+                .exec();
+            logger().info("Committed snapshot image: {}", snapshotImageName);
+        } catch (Exception e) {
+            logger().warn("Failed to commit snapshot image: {}", snapshotImageName, e);
+        }
     }
 
     @VisibleForTesting
     Optional<String> findContainerForReuse(String hash) {
-        // TODO locking
         return dockerClient
             .listContainersCmd()
             .withLabelFilter(ImmutableMap.of(HASH_LABEL, hash))
@@ -611,6 +892,28 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
             .map(it -> it.getId());
     }
 
+    /**
+     * Whether the files configured with {@link #withCopyFileToContainer(MountableFile, String)} and
+     * {@link #withCopyToContainer(Transferable, String)} are uploaded with a single archive before the container
+     * starts, instead of calling {@code copyFileToContainer} for every file.
+     *
+     * @return {@code true} unless a subclass overrides one of the {@code copyFileToContainer} methods
+     */
+    @UnstableAPI
+    protected boolean copiesFilesInBatch() {
+        for (Class<?> type = getClass(); type != GenericContainer.class; type = type.getSuperclass()) {
+            for (Class<?> sourceType : Arrays.asList(MountableFile.class, Transferable.class)) {
+                try {
+                    type.getDeclaredMethod("copyFileToContainer", sourceType, String.class);
+                    return false;
+                } catch (NoSuchMethodException | NoClassDefFoundError e) {
+                    // not overridden by this class
+                }
+            }
+        }
+        return true;
+    }
+
     /**
      * Set any custom settings for the create command such as shared memory size.
      */
@@ -644,6 +947,22 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
             return;
         }
 
+        boolean pooled = containerPool != null && containerPoolKey != null;
+        if (pooled) {
+            // clean up after this use before the container can be acquired again
+            containerIsStopping(containerInfo);
+            ExecChannel.closeFor(containerId);
+            ContainerLogHub.closeFor(containerId);
+
+            if (containerPool.release(containerPoolKey, this)) {
+                logger().info("Returned container with ID: {} to {}", containerId, containerPool);
+                closeContainerInfoCache();
+                containerId = null;
+                containerInfo = null;
+                return;
+            }
+        }
+
         try {
             String imageName;
 
@@ -653,10 +972,19 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
                 imageName = "<unknown>";
             }
 
-            containerIsStopping(containerInfo);
-            ResourceReaper.instance().stopAndRemoveContainer(containerId, imageName);
+            if (!pooled) {
+                containerIsStopping(containerInfo);
+            }
+            if (TestcontainersConfiguration.getInstance().isAsyncStopEnabled()) {
+                ContainerRemovalQueue.getInstance().killAndRemove(dockerClient, containerId, imageName);
+            } else {
+                ResourceReaper.instance().stopAndRemoveContainer(containerId, imageName);
+            }
             containerIsStopped(containerInfo);
         } finally {
+            closeContainerInfoCache();
+            ExecChannel.closeFor(containerId);
+            ContainerLogHub.closeFor(containerId);
             containerId = null;
             containerInfo = null;
         }
@@ -1418,6 +1746,131 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
         return self();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void followOutput(Consumer<OutputFrame> consumer) {
+        followOutput(consumer, OutputFrame.OutputType.STDOUT, OutputFrame.OutputType.STDERR);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When {@code log.hub.enable} is set, the consumer subscribes to the shared log stream of the container, see
+     * {@link ContainerLogHub}.
+     */
+    @Override
+    public void followOutput(Consumer<OutputFrame> consumer, OutputFrame.OutputType... types) {
+        if (TestcontainersConfiguration.getInstance().isLogHubEnabled()) {
+            ContainerLogHub.of(getDockerClient(), getContainerId()).subscribe(consumer, types);
+        } else {
+            Container.super.followOutput(consumer, types);
+        }
+    }
+
+    /**
+     * @return the dispatcher delivering the output to the log consumers, when {@code log.async.enable} is set and the
+     * container has log consumers, to monitor dropped frames and delivery lag
+     */
+    @UnstableAPI
+    @Nullable
+    public AsyncOutputFrameDispatcher getLogDispatcher() {
+        return logDispatcher;
+    }
+
+    /**
+     * @return the last output of the container since it started, retained up to {@code log.tail.bytes} to report the
+     * output of a container that failed to start. It is retained while the container runs when its output is already
+     * followed by a single stream for its log consumers, i.e. with {@code log.async.enable} or {@code log.hub.enable},
+     * and otherwise only read once the container failed to start. The full output is available from
+     * {@link #getLogs()}.
+     */
+    @UnstableAPI
+    @Nullable
+    public TailConsumer getLogTail() {
+        return logTail;
+    }
+
+    /**
+     * @return the number of inspect calls made to wait for the port mappings of the container when it last started,
+     * usually one when the start event is received with {@code startup.events.enable}
+     */
+    @UnstableAPI
+    public int getPortMappingInspectCalls() {
+        return portMappingInspectCalls;
+    }
+
+    private void followLogConsumers() {
+        if (logConsumers.isEmpty()) {
+            return;
+        }
+
+        TestcontainersConfiguration configuration = TestcontainersConfiguration.getInstance();
+        int logTailBytes = configuration.getLogTailBytes();
+        if (!configuration.isAsyncLogDispatchEnabled()) {
+            logConsumers.forEach(this::followOutput);
+            if (logTailBytes > 0 && configuration.isLogHubEnabled()) {
+                // joins the stream of the hub, which the consumers already attached
+                logTail = new TailConsumer(logTailBytes);
+                followOutput(logTail);
+            }
+            return;
+        }
+
+        // a single stream, delivered to all consumers by the dispatcher thread
+        logDispatcher =
+            new AsyncOutputFrameDispatcher(
+                containerId.substring(0, Math.min(12, containerId.length())),
+                configuration.getAsyncLogCapacity(),
+                AsyncOutputFrameDispatcher.OverflowPolicy.valueOf(
+                    configuration.getAsyncLogOverflowPolicy().toUpperCase()
+                )
+            );
+        logConsumers.forEach(logDispatcher::addConsumer);
+        if (logTailBytes > 0) {
+            logTail = new TailConsumer(logTailBytes);
+            logDispatcher.addConsumer(logTail);
+        }
+        followOutput(logDispatcher);
+    }
+
+    private void logFailedContainerOutput() {
+        TailConsumer tail = logTail;
+        if (tail == null) {
+            int logTailBytes = TestcontainersConfiguration.getInstance().getLogTailBytes();
+            if (logTailBytes <= 0) {
+                final String containerLogs = getLogs();
+
+                if (containerLogs.length() > 0) {
+                    logger().error("Log output from the failed container:\n{}", containerLogs);
+                } else {
+                    logger().error("There are no stdout/stderr logs available for the failed container");
+                }
+                return;
+            }
+
+            // no stream was followed, so the output is read again, only retaining its end
+            tail = new TailConsumer(logTailBytes);
+            LogUtils.readOutput(dockerClient, containerId, tail);
+            logTail = tail;
+        }
+
+        String containerLogs = tail.toUtf8String();
+        if (containerLogs.isEmpty()) {
+            logger().error("There are no stdout/stderr logs available for the failed container");
+        } else if (tail.getDiscardedBytes() > 0) {
+            logger()
+                .error(
+                    "Last log output from the failed container ({} earlier bytes are available from getLogs()):\n{}",
+                    tail.getDiscardedBytes(),
+                    containerLogs
+                );
+        } else {
+            logger().error("Log output from the failed container:\n{}", containerLogs);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1482,6 +1935,38 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
         return self();
     }
 
+    /**
+     * Commits the container to an image once it has started, including the changes made by the
+     * {@link #containerIsStarted(InspectContainerResponse, boolean)} hooks (e.g. init scripts). Later starts of
+     * containers with the same configuration and copied files create the container from that image, and pass
+     * {@code reused = true} to the startup hooks, so that the initialization is skipped.
+     * <p>
+     * The container is paused while it is committed. Changes to volumes declared by the image are not part of
+     * the snapshot. Snapshot images are named {@code testcontainers-snapshot:<hash>} and are kept across sessions.
+     *
+     * @param snapshotAfterStartup whether to commit the container after startup
+     * @return this
+     */
+    @UnstableAPI
+    public SELF withSnapshotAfterStartup(boolean snapshotAfterStartup) {
+        this.snapshotAfterStartup = snapshotAfterStartup;
+        return self();
+    }
+
+    /**
+     * Takes a started container with the same configuration from the given pool on start, if it has one, and returns
+     * the container to the pool on stop.
+     *
+     * @param containerPool the pool, or {@code null} to not use one
+     * @return this
+     * @see ContainerPool
+     */
+    @UnstableAPI
+    public SELF withContainerPool(@Nullable ContainerPool<? super SELF> containerPool) {
+        this.containerPool = containerPool;
+        return self();
+    }
+
     /**
      * Forces access to the tests host machine.
      * Use this method if you need to call {@link org.testcontainers.Testcontainers#exposeHostPorts(int...)}
@@ -0,0 +1,171 @@
+package org.testcontainers.containers;
+
+import com.google.common.annotations.VisibleForTesting;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Lock guarding the lookup and creation of a reusable container with a given configuration hash, shared by all JVMs
+ * of the current user on this machine. Concurrent test processes (e.g. parallel Gradle test forks) wait for the first
+ * one to start the container and then reuse it, instead of each creating their own.
+ * <p>
+ * Locking is best effort: if the lock can't be acquired in time, the caller continues without it.
+ */
+@Slf4j
+final class ReusableContainerLock implements AutoCloseable {
+
+    private static final Path LOCK_DIRECTORY = Paths.get(System.getProperty("java.io.tmpdir"), "testcontainers-reuse");
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    // File locks are held on behalf of the whole JVM, so threads of the same JVM have to be serialized separately
+    private static final ConcurrentMap<String, JvmLock> JVM_LOCKS = new ConcurrentHashMap<>();
+
+    private final String hash;
+
+    @Nullable
+    private final JvmLock jvmLock;
+
+    @Nullable
+    private final FileChannel channel;
+
+    private boolean released;
+
+    private ReusableContainerLock(String hash, @Nullable JvmLock jvmLock, @Nullable FileChannel channel) {
+        this.hash = hash;
+        this.jvmLock = jvmLock;
+        this.channel = channel;
+    }
+
+    /**
+     * Acquires the lock for the given configuration hash, waiting for other threads and JVMs holding it.
+     *
+     * @param hash the configuration hash of the reusable container
+     * @param timeout maximum time to wait for the lock
+     * @return the lock, to be closed by the same thread once the container has started
+     */
+    static ReusableContainerLock acquire(String hash, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        JvmLock jvmLock = JVM_LOCKS.compute(
+            hash,
+            (__, lock) -> {
+                JvmLock result = lock != null ? lock : new JvmLock();
+                result.users++;
+                return result;
+            }
+        );
+        boolean locked = false;
+        try {
+            locked = jvmLock.tryLock(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } finally {
+            if (!locked) {
+                unregister(hash, jvmLock);
+            }
+        }
+        if (!locked) {
+            log.warn("Timed out waiting for the lock of reusable container with hash {}, continuing without it", hash);
+            return new ReusableContainerLock(hash, null, null);
+        }
+
+        FileChannel channel = null;
+        try {
+            Files.createDirectories(LOCK_DIRECTORY);
+            channel =
+                FileChannel.open(
+                    LOCK_DIRECTORY.resolve(hash + ".lock"),
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE
+                );
+
+            while (channel.tryLock() == null) {
+                if (System.nanoTime() - deadline >= 0) {
+                    log.warn(
+                        "Timed out waiting for another process to start the reusable container with hash {}, continuing without the lock",
+                        hash
+                    );
+                    channel.close();
+                    return new ReusableContainerLock(hash, jvmLock, null);
+                }
+                log.debug("Waiting for another process to start the reusable container with hash {}", hash);
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            }
+            return new ReusableContainerLock(hash, jvmLock, channel);
+        } catch (IOException e) {
+            log.warn("Failed to lock reusable container with hash {}, continuing without the lock", hash, e);
+            closeQuietly(channel);
+            return new ReusableContainerLock(hash, jvmLock, null);
+        } catch (InterruptedException | RuntimeException e) {
+            closeQuietly(channel);
+            jvmLock.unlock();
+            unregister(hash, jvmLock);
+            throw e;
+        }
+    }
+
+    /**
+     * Releases the lock. Calling it more than once has no effect.
+     */
+    @Override
+    public void close() {
+        if (released) {
+            return;
+        }
+        released = true;
+
+        try {
+            // closing the channel releases the file lock
+            closeQuietly(channel);
+        } finally {
+            if (jvmLock != null) {
+                jvmLock.unlock();
+                unregister(hash, jvmLock);
+            }
+        }
+    }
+
+    @VisibleForTesting
+    static boolean isRegistered(String hash) {
+        return JVM_LOCKS.containsKey(hash);
+    }
+
+    /**
+     * Removes the lock of the current JVM once no thread holds or waits for it.
+     */
+    private static void unregister(String hash, JvmLock jvmLock) {
+        JVM_LOCKS.computeIfPresent(hash, (__, lock) -> lock == jvmLock && --lock.users == 0 ? null : lock);
+    }
+
+    private static void closeQuietly(@Nullable FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Failed to close lock file", e);
+        }
+    }
+
+    /**
+     * Lock of the threads of the current JVM, counting them so that it is only removed when it is no longer used.
+     */
+    private static final class JvmLock extends ReentrantLock {
+
+        // only accessed within the atomic updates of JVM_LOCKS
+        private int users;
+    }
+}
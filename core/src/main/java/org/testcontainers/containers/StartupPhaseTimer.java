@@ -0,0 +1,83 @@
+package org.testcontainers.containers;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+import org.testcontainers.core.ContainerLifecycleListener;
+import org.testcontainers.core.ContainerLifecycleListener.Phase;
+import org.testcontainers.core.ContainerLifecycleListener.PhaseEvent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Times the startup phases of a container and notifies {@link ContainerLifecycleListener}s when they complete.
+ */
+@Slf4j
+class StartupPhaseTimer {
+
+    private final Collection<ContainerLifecycleListener> listeners;
+
+    private final Supplier<String> containerId;
+
+    private String imageName = "<resolving>";
+
+    @Nullable
+    private Phase phase;
+
+    private Instant phaseStartedAt;
+
+    StartupPhaseTimer(Collection<ContainerLifecycleListener> listeners, Supplier<String> containerId) {
+        this.listeners = listeners;
+        this.containerId = containerId;
+    }
+
+    void imageResolved(String imageName) {
+        this.imageName = imageName;
+    }
+
+    /**
+     * Completes the current phase, if any, and starts the given one.
+     */
+    void start(Phase phase) {
+        complete();
+        this.phase = phase;
+        this.phaseStartedAt = Instant.now();
+    }
+
+    void complete() {
+        notifyListeners(false);
+    }
+
+    /**
+     * Reports the current phase, if any, as failed.
+     */
+    void fail() {
+        notifyListeners(true);
+    }
+
+    private void notifyListeners(boolean failed) {
+        if (phase == null) {
+            return;
+        }
+        if (!listeners.isEmpty()) {
+            PhaseEvent event = new PhaseEvent(
+                phase,
+                imageName,
+                containerId.get(),
+                phaseStartedAt,
+                Duration.between(phaseStartedAt, Instant.now()),
+                failed
+            );
+            for (ContainerLifecycleListener listener : listeners) {
+                try {
+                    listener.phaseCompleted(event);
+                } catch (Exception e) {
+                    log.warn("Container lifecycle listener {} failed", listener, e);
+                }
+            }
+        }
+        phase = null;
+    }
+}
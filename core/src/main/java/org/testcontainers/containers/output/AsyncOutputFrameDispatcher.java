@@ -0,0 +1,227 @@
+package org.testcontainers.containers.output;
+
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.UnstableAPI;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Delivers the {@link OutputFrame}s of a log stream to consumers on a dedicated thread, so that slow consumers, e.g.
+ * synchronous file appenders, don't slow down the log stream of the container and the wait strategies reading it.
+ * <p>
+ * Frames are queued in a bounded ring buffer. When it is full, the {@link OverflowPolicy} decides whether the log
+ * stream waits for the consumers or frames are dropped. {@link OutputFrame#END} is never dropped, and stops the thread
+ * once delivered, after which further frames are ignored.
+ * <p>
+ * The dispatcher receives the frames with their ANSI color codes, which are removed for each consumer that doesn't
+ * keep them, see {@link BaseConsumer#withRemoveAnsiCodes(boolean)}.
+ */
+@UnstableAPI
+@Slf4j
+public class AsyncOutputFrameDispatcher extends BaseConsumer<AsyncOutputFrameDispatcher> {
+
+    public enum OverflowPolicy {
+        /**
+         * The log stream waits until the consumers caught up, so that no frame is lost.
+         */
+        BLOCK,
+
+        /**
+         * The oldest queued frame is dropped to make room for the new one.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Only every 10th new frame is queued, dropping the oldest queued frame, so that the consumers still see a
+         * sample of the recent output.
+         */
+        SAMPLE,
+    }
+
+    private static final int SAMPLING_RATE = 10;
+
+    private final List<Consumer<OutputFrame>> consumers = new CopyOnWriteArrayList<>();
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final OutputFrame[] frames;
+
+    private final long[] queuedAt;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    private final Condition notFull = lock.newCondition();
+
+    private final AtomicLong droppedFrameCount = new AtomicLong();
+
+    private int head;
+
+    private int size;
+
+    private long overflowCount;
+
+    private boolean finished;
+
+    private volatile long maxLagNanos;
+
+    /**
+     * @param name the name of the log stream, used to name the thread
+     * @param capacity the maximum number of queued frames
+     * @param overflowPolicy what to do with new frames while the buffer is full
+     */
+    public AsyncOutputFrameDispatcher(String name, int capacity, OverflowPolicy overflowPolicy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("the capacity must be positive");
+        }
+        this.overflowPolicy = overflowPolicy;
+        this.frames = new OutputFrame[capacity];
+        withRemoveAnsiCodes(false);
+        this.queuedAt = new long[capacity];
+
+        Thread thread = new Thread(
+            DockerClientFactory.TESTCONTAINERS_THREAD_GROUP,
+            this::drain,
+            "testcontainers-log-" + name
+        );
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public AsyncOutputFrameDispatcher addConsumer(Consumer<OutputFrame> consumer) {
+        consumers.add(consumer);
+        return this;
+    }
+
+    @Override
+    public void accept(OutputFrame frame) {
+        lock.lock();
+        try {
+            if (finished || (size == frames.length && !makeRoomFor(frame))) {
+                return;
+            }
+            int tail = (head + size) % frames.length;
+            frames[tail] = frame;
+            queuedAt[tail] = System.nanoTime();
+            size++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of frames dropped because the buffer was full
+     */
+    public long getDroppedFrameCount() {
+        return droppedFrameCount.get();
+    }
+
+    /**
+     * @return the number of frames waiting to be delivered
+     */
+    public int getPendingFrameCount() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return how long the oldest frame waiting to be delivered has been queued
+     */
+    public Duration getLag() {
+        lock.lock();
+        try {
+            return size == 0 ? Duration.ZERO : Duration.ofNanos(System.nanoTime() - queuedAt[head]);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the longest time a delivered frame has been queued
+     */
+    public Duration getMaxLag() {
+        return Duration.ofNanos(maxLagNanos);
+    }
+
+    /**
+     * Called with the lock held, while the buffer is full.
+     *
+     * @return whether the frame can be queued
+     */
+    private boolean makeRoomFor(OutputFrame frame) {
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            while (size == frames.length && !finished) {
+                notFull.awaitUninterruptibly();
+            }
+            return !finished;
+        }
+
+        boolean end = frame.getType() == OutputFrame.OutputType.END;
+        if (overflowPolicy == OverflowPolicy.SAMPLE && !end && overflowCount++ % SAMPLING_RATE != 0) {
+            droppedFrameCount.incrementAndGet();
+            return false;
+        }
+        frames[head] = null;
+        head = (head + 1) % frames.length;
+        size--;
+        droppedFrameCount.incrementAndGet();
+        return true;
+    }
+
+    private void drain() {
+        while (true) {
+            OutputFrame frame;
+            lock.lock();
+            try {
+                while (size == 0) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                frame = frames[head];
+                long lagNanos = System.nanoTime() - queuedAt[head];
+                if (lagNanos > maxLagNanos) {
+                    maxLagNanos = lagNanos;
+                }
+                frames[head] = null;
+                head = (head + 1) % frames.length;
+                size--;
+                notFull.signal();
+            } finally {
+                lock.unlock();
+            }
+
+            for (Consumer<OutputFrame> consumer : consumers) {
+                boolean removeColorCodes =
+                    !(consumer instanceof BaseConsumer) || ((BaseConsumer<?>) consumer).isRemoveColorCodes();
+                try {
+                    consumer.accept(removeColorCodes ? frame.withoutColorCodes() : frame);
+                } catch (RuntimeException e) {
+                    log.warn("Log consumer {} failed", consumer, e);
+                }
+            }
+
+            if (frame.getType() == OutputFrame.OutputType.END) {
+                lock.lock();
+                try {
+                    finished = true;
+                    notFull.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+        }
+    }
+}
@@ -5,14 +5,12 @@ import com.github.dockerjava.api.model.Frame;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.function.Consumer;
-import java.util.regex.Pattern;
 
 /**
  * This class can be used as a generic callback for docker-java commands that produce Frames.
@@ -78,31 +76,54 @@ public class FrameConsumerResultCallback extends ResultCallbackTemplate<FrameCon
         return completionLatch;
     }
 
+    /**
+     * Splits the output into lines, removing ANSI color codes on the fly if the consumer asks for it. The line buffer
+     * is reused, so that each line only allocates its {@link OutputFrame}; decoding is left to the consumers.
+     */
     private static class LineConsumer {
 
-        private static final Pattern ANSI_COLOR_PATTERN = Pattern.compile("\u001B\\[[0-9;]+m");
+        private static final int INITIAL_BUFFER_SIZE = 256;
+
+        // larger buffers are released after their line, so that a single long line doesn't retain memory
+        private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+        private static final byte ESC = 0x1B;
+
+        // states of the color code matcher: ESC, '[', then digits and semicolons up to an 'm'
+        private static final int NO_COLOR_CODE = 0;
+
+        private static final int AFTER_ESC = 1;
+
+        private static final int AFTER_BRACKET = 2;
+
+        private static final int IN_PARAMETERS = 3;
 
         private final OutputFrame.OutputType type;
 
         private final Consumer<OutputFrame> consumer;
 
-        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+
+        private int length = 0;
 
         private boolean lastCR = false;
 
+        private int colorCodeState = NO_COLOR_CODE;
+
+        private int colorCodeStart;
+
         LineConsumer(final OutputFrame.OutputType type, final Consumer<OutputFrame> consumer) {
             this.type = type;
             this.consumer = consumer;
         }
 
         void processFrame(final byte[] b) {
-            int start = 0;
-            int i = 0;
-            while (i < b.length) {
-                switch (b[i]) {
+            final boolean removeColorCodes =
+                !(consumer instanceof BaseConsumer) || ((BaseConsumer<?>) consumer).isRemoveColorCodes();
+            for (byte c : b) {
+                switch (c) {
                     case '\n':
-                        buffer.write(b, start, i + 1 - start);
-                        start = i + 1;
+                        write(c, removeColorCodes);
                         consume();
                         lastCR = false;
                         break;
@@ -110,8 +131,7 @@ public class FrameConsumerResultCallback extends ResultCallbackTemplate<FrameCon
                         if (lastCR) {
                             consume();
                         }
-                        buffer.write(b, start, i + 1 - start);
-                        start = i + 1;
+                        write(c, removeColorCodes);
                         lastCR = true;
                         break;
                     default:
@@ -119,14 +139,13 @@ public class FrameConsumerResultCallback extends ResultCallbackTemplate<FrameCon
                             consume();
                         }
                         lastCR = false;
+                        write(c, removeColorCodes);
                 }
-                i++;
             }
-            buffer.write(b, start, b.length - start);
         }
 
         void processBuffer() {
-            if (buffer.size() > 0) {
+            if (length > 0) {
                 consume();
             }
         }
@@ -135,18 +154,51 @@ public class FrameConsumerResultCallback extends ResultCallbackTemplate<FrameCon
             consumer.accept(OutputFrame.END);
         }
 
-        private void consume() {
-            final String string = new String(buffer.toByteArray(), StandardCharsets.UTF_8);
-            final byte[] bytes = processAnsiColorCodes(string).getBytes(StandardCharsets.UTF_8);
-            consumer.accept(new OutputFrame(type, bytes));
-            buffer.reset();
+        private void write(final byte c, final boolean removeColorCodes) {
+            if (removeColorCodes) {
+                switch (colorCodeState) {
+                    case AFTER_ESC:
+                        colorCodeState = c == '[' ? AFTER_BRACKET : NO_COLOR_CODE;
+                        break;
+                    case AFTER_BRACKET:
+                        colorCodeState = isColorCodeParameter(c) ? IN_PARAMETERS : NO_COLOR_CODE;
+                        break;
+                    case IN_PARAMETERS:
+                        if (c == 'm') {
+                            // drop the whole color code
+                            length = colorCodeStart;
+                            colorCodeState = NO_COLOR_CODE;
+                            return;
+                        }
+                        if (!isColorCodeParameter(c)) {
+                            colorCodeState = NO_COLOR_CODE;
+                        }
+                        break;
+                }
+                if (colorCodeState == NO_COLOR_CODE && c == ESC) {
+                    colorCodeState = AFTER_ESC;
+                    colorCodeStart = length;
+                }
+            }
+
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            buffer[length++] = c;
+        }
+
+        private static boolean isColorCodeParameter(final byte c) {
+            return (c >= '0' && c <= '9') || c == ';';
         }
 
-        private String processAnsiColorCodes(final String utf8String) {
-            if (!(consumer instanceof BaseConsumer) || ((BaseConsumer<?>) consumer).isRemoveColorCodes()) {
-                return ANSI_COLOR_PATTERN.matcher(utf8String).replaceAll("");
+        private void consume() {
+            final byte[] bytes = Arrays.copyOf(buffer, length);
+            length = 0;
+            colorCodeState = NO_COLOR_CODE;
+            if (buffer.length > MAX_RETAINED_BUFFER_SIZE) {
+                buffer = new byte[INITIAL_BUFFER_SIZE];
             }
-            return utf8String;
+            consumer.accept(new OutputFrame(type, bytes));
         }
     }
 }
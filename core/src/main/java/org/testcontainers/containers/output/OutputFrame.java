@@ -2,8 +2,10 @@ package org.testcontainers.containers.output;
 
 import com.github.dockerjava.api.model.Frame;
 import com.github.dockerjava.api.model.StreamType;
+import org.testcontainers.UnstableAPI;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 /**
  * Holds exactly one complete line of container output. Lines are split on newline characters (LF, CR LF).
@@ -40,6 +42,53 @@ public class OutputFrame {
         return new String(bytes, 0, bytes.length - determineLineEndingLength(bytes), StandardCharsets.UTF_8);
     }
 
+    /**
+     * Removes ANSI color codes, as done by {@link FrameConsumerResultCallback} for consumers that don't keep them, for
+     * consumers receiving the frames of another consumer.
+     *
+     * @return this frame without ANSI color codes, or this frame if it has none
+     */
+    @UnstableAPI
+    public OutputFrame withoutColorCodes() {
+        if (bytes == null) {
+            return this;
+        }
+        byte[] result = null;
+        int length = 0;
+        int i = 0;
+        while (i < bytes.length) {
+            int colorCodeEnd = findColorCodeEnd(bytes, i);
+            if (colorCodeEnd < 0) {
+                if (result != null) {
+                    result[length++] = bytes[i];
+                }
+                i++;
+                continue;
+            }
+            if (result == null) {
+                result = new byte[bytes.length];
+                System.arraycopy(bytes, 0, result, 0, i);
+                length = i;
+            }
+            i = colorCodeEnd;
+        }
+        return result == null ? this : new OutputFrame(type, Arrays.copyOf(result, length));
+    }
+
+    /**
+     * @return the index after the color code starting at the given index, ESC '[' parameters 'm', or -1 if there is none
+     */
+    private static int findColorCodeEnd(final byte[] bytes, final int start) {
+        if (bytes[start] != 0x1B || start + 1 >= bytes.length || bytes[start + 1] != '[') {
+            return -1;
+        }
+        int i = start + 2;
+        while (i < bytes.length && ((bytes[i] >= '0' && bytes[i] <= '9') || bytes[i] == ';')) {
+            i++;
+        }
+        return i > start + 2 && i < bytes.length && bytes[i] == 'm' ? i + 1 : -1;
+    }
+
     private static int determineLineEndingLength(final byte[] bytes) {
         if (bytes.length > 0) {
             switch (bytes[bytes.length - 1]) {
@@ -0,0 +1,83 @@
+package org.testcontainers.containers.output;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Retains the last bytes of output in a fixed size ring buffer, e.g. to report the output of a container that failed
+ * to start without downloading all of it. Once the buffer is full, the oldest bytes are discarded.
+ */
+public class TailConsumer extends BaseConsumer<TailConsumer> {
+
+    private final byte[] buffer;
+
+    // the position of the next byte
+    private int end;
+
+    private int size;
+
+    private long discardedBytes;
+
+    /**
+     * @param capacity the maximum number of bytes retained
+     */
+    public TailConsumer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("the capacity must be positive");
+        }
+        this.buffer = new byte[capacity];
+    }
+
+    @Override
+    public synchronized void accept(OutputFrame outputFrame) {
+        byte[] bytes = outputFrame.getBytes();
+        if (bytes == null) {
+            return;
+        }
+
+        // only the last bytes of a frame larger than the buffer are retained
+        int offset = Math.max(0, bytes.length - buffer.length);
+        int length = bytes.length - offset;
+        int firstPart = Math.min(length, buffer.length - end);
+        System.arraycopy(bytes, offset, buffer, end, firstPart);
+        System.arraycopy(bytes, offset + firstPart, buffer, 0, length - firstPart);
+        end = (end + length) % buffer.length;
+
+        int overwritten = Math.max(0, size + length - buffer.length);
+        size = Math.min(buffer.length, size + length);
+        discardedBytes += offset + overwritten;
+    }
+
+    /**
+     * @return the number of bytes discarded to make room for newer output
+     */
+    public synchronized long getDiscardedBytes() {
+        return discardedBytes;
+    }
+
+    public String toUtf8String() {
+        return toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the retained output. If output was discarded, it starts with the first complete line, if any.
+     */
+    public synchronized String toString(Charset charset) {
+        int start = (end - size + buffer.length) % buffer.length;
+        byte[] bytes = new byte[size];
+        int firstPart = Math.min(size, buffer.length - start);
+        System.arraycopy(buffer, start, bytes, 0, firstPart);
+        System.arraycopy(buffer, 0, bytes, firstPart, size - firstPart);
+
+        int from = 0;
+        if (discardedBytes > 0) {
+            for (int i = 0; i < bytes.length - 1; i++) {
+                if (bytes[i] == '\n') {
+                    from = i + 1;
+                    break;
+                }
+            }
+        }
+        return new String(bytes, from, bytes.length - from, charset);
+    }
+}
@@ -6,21 +6,59 @@ import org.slf4j.LoggerFactory;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
 /**
  * A consumer for container output that buffers lines in a {@link java.util.concurrent.BlockingDeque} and enables tests
  * to wait for a matching condition.
+ * <p>
+ * The buffer is unbounded by default. Consumers of long-running containers that log heavily can bound it with
+ * {@link #WaitingConsumer(int, DropPolicy)}.
  */
 public class WaitingConsumer extends BaseConsumer<WaitingConsumer> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(WaitingConsumer.class);
 
-    private LinkedBlockingDeque<OutputFrame> frames = new LinkedBlockingDeque<>();
+    private final LinkedBlockingDeque<OutputFrame> frames;
+
+    private final DropPolicy dropPolicy;
+
+    private final AtomicLong droppedFrames = new AtomicLong(0);
+
+    public WaitingConsumer() {
+        this(Integer.MAX_VALUE, DropPolicy.DROP_OLDEST);
+    }
+
+    /**
+     * @param capacity   maximum number of frames to buffer
+     * @param dropPolicy which frames to drop when the buffer is full
+     */
+    public WaitingConsumer(int capacity, DropPolicy dropPolicy) {
+        this.frames = new LinkedBlockingDeque<>(capacity);
+        this.dropPolicy = dropPolicy;
+    }
 
     @Override
     public void accept(OutputFrame frame) {
-        frames.add(frame);
+        // waiters block on the deque, which signals them when a frame is added
+        while (!frames.offerLast(frame)) {
+            // the end of output is never dropped, as waitUntilEnd() waits for it
+            if (dropPolicy == DropPolicy.DROP_NEWEST && frame != OutputFrame.END) {
+                droppedFrames.incrementAndGet();
+                return;
+            }
+            if (frames.pollFirst() != null) {
+                droppedFrames.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * @return the number of frames dropped because the buffer was full
+     */
+    public long getDroppedFrameCount() {
+        return droppedFrames.get();
     }
 
     /**
@@ -84,9 +122,10 @@ public class WaitingConsumer extends BaseConsumer<WaitingConsumer> {
 
         final long startTime = System.nanoTime();
 
-        while (System.nanoTime() - startTime < timeoutLimitInNanos) {
+        long remainingNanos;
+        while ((remainingNanos = timeoutLimitInNanos - (System.nanoTime() - startTime)) > 0) {
             try {
-                final OutputFrame frame = frames.pollLast(100, TimeUnit.MILLISECONDS);
+                final OutputFrame frame = frames.pollLast(remainingNanos, TimeUnit.NANOSECONDS);
 
                 if (frame != null) {
                     LOGGER.debug("{}: {}", frame.getType(), frame.getUtf8StringWithoutLineEnding());
@@ -99,11 +138,6 @@ public class WaitingConsumer extends BaseConsumer<WaitingConsumer> {
                         }
                     }
                 }
-
-                if (frames.isEmpty()) {
-                    // sleep for a moment to avoid excessive CPU spinning
-                    Thread.sleep(10L);
-                }
             } catch (InterruptedException e) {
                 throw new RuntimeException(e);
             }
@@ -118,7 +152,7 @@ public class WaitingConsumer extends BaseConsumer<WaitingConsumer> {
      */
     public void waitUntilEnd() {
         try {
-            waitUntilEnd(Long.MAX_VALUE);
+            waitUntilEndNanos(Long.MAX_VALUE);
         } catch (TimeoutException e) {
             // timeout condition can never occur in a realistic timeframe
             throw new IllegalStateException(e);
@@ -132,28 +166,39 @@ public class WaitingConsumer extends BaseConsumer<WaitingConsumer> {
      * @param limitUnit maximum time to wait (units)
      */
     public void waitUntilEnd(long limit, TimeUnit limitUnit) throws TimeoutException {
-        long expiry = limitUnit.toNanos(limit) + System.nanoTime();
-
-        waitUntilEnd(expiry);
+        waitUntilEndNanos(limitUnit.toNanos(limit));
     }
 
-    private void waitUntilEnd(Long expiry) throws TimeoutException {
-        while (System.nanoTime() < expiry) {
+    private void waitUntilEndNanos(long timeoutLimitInNanos) throws TimeoutException {
+        final long startTime = System.nanoTime();
+
+        long remainingNanos;
+        while ((remainingNanos = timeoutLimitInNanos - (System.nanoTime() - startTime)) > 0) {
             try {
-                OutputFrame frame = frames.pollLast(100, TimeUnit.MILLISECONDS);
+                OutputFrame frame = frames.pollLast(remainingNanos, TimeUnit.NANOSECONDS);
 
                 if (frame == OutputFrame.END) {
                     return;
                 }
-
-                if (frames.isEmpty()) {
-                    // sleep for a moment to avoid excessive CPU spinning
-                    Thread.sleep(10L);
-                }
             } catch (InterruptedException e) {
                 throw new RuntimeException(e);
             }
         }
         throw new TimeoutException("Expiry time reached before end of output");
     }
+
+    /**
+     * Which frames to drop when the buffer of a bounded {@link WaitingConsumer} is full.
+     */
+    public enum DropPolicy {
+        /**
+         * Drops the oldest buffered frame to make room for the new one, like a ring buffer
+         */
+        DROP_OLDEST,
+
+        /**
+         * Drops the new frame
+         */
+        DROP_NEWEST
+    }
 }
@@ -3,9 +3,9 @@ package org.testcontainers.containers.startupcheck;
 import com.github.dockerjava.api.DockerClient;
 import com.github.dockerjava.api.command.InspectContainerResponse;
 import org.rnorth.ducttape.ratelimits.RateLimiter;
-import org.rnorth.ducttape.ratelimits.RateLimiterBuilder;
 import org.rnorth.ducttape.unreliables.Unreliables;
 import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.TokenBucketRateLimiter;
 
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
@@ -15,12 +15,6 @@ import java.util.concurrent.TimeUnit;
  */
 public abstract class StartupCheckStrategy {
 
-    private static final RateLimiter DOCKER_CLIENT_RATE_LIMITER = RateLimiterBuilder
-        .newBuilder()
-        .withRate(1, TimeUnit.SECONDS)
-        .withConstantThroughput()
-        .build();
-
     private Duration timeout = Duration.ofSeconds(GenericContainer.CONTAINER_RUNNING_TIMEOUT_SEC);
 
     @SuppressWarnings("unchecked")
@@ -40,12 +34,13 @@ public abstract class StartupCheckStrategy {
 
     public boolean waitUntilStartupSuccessful(DockerClient dockerClient, String containerId) {
         final Boolean[] startedOK = { null };
+        final RateLimiter rateLimiter = TokenBucketRateLimiter.forTarget();
         Unreliables.retryUntilTrue(
             (int) timeout.toMillis(),
             TimeUnit.MILLISECONDS,
             () -> {
                 //noinspection CodeBlock2Expr
-                return DOCKER_CLIENT_RATE_LIMITER.getWhenReady(() -> {
+                return rateLimiter.getWhenReady(() -> {
                     StartupStatus state = checkStartupState(dockerClient, containerId);
                     switch (state) {
                         case SUCCESSFUL:
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.testcontainers.containers.Container.ExecResult;
 import org.testcontainers.containers.ExecInContainerPattern;
 import org.testcontainers.containers.wait.strategy.WaitStrategyTarget;
+import org.testcontainers.utility.TestcontainersConfiguration;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -39,13 +40,19 @@ public class InternalCommandPortListeningCheck implements java.util.concurrent.C
 
         Instant before = Instant.now();
         try {
-            ExecResult result = ExecInContainerPattern.execInContainer(
-                waitStrategyTarget.getDockerClient(),
-                waitStrategyTarget.getContainerInfo(),
-                "/bin/sh",
-                "-c",
-                command.toString()
-            );
+            final ExecResult result;
+            if (TestcontainersConfiguration.getInstance().isExecChannelEnabled()) {
+                result = waitStrategyTarget.execInChannel("/bin/sh", "-c", command.toString());
+            } else {
+                result =
+                    ExecInContainerPattern.execInContainer(
+                        waitStrategyTarget.getDockerClient(),
+                        waitStrategyTarget.getContainerInfo(),
+                        "/bin/sh",
+                        "-c",
+                        command.toString()
+                    );
+            }
             log.trace(
                 "Check for {} took {}. Result code '{}', stdout message: '{}'",
                 internalPorts,
@@ -0,0 +1,236 @@
+package org.testcontainers.containers.wait.internal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.DockerClientFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.Channel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Mechanism for testing that sockets are listening when run from the test host, multiplexing non-blocking connection
+ * attempts to the ports of every waiting container on a single thread.
+ * <p>
+ * Each port is retried with an exponential backoff until a connection is established or the probe is cancelled.
+ */
+@Slf4j
+public final class SelectorPortProbe {
+
+    private static final long INITIAL_BACKOFF_NANOS = Duration.ofMillis(10).toNanos();
+
+    private static final long MAX_BACKOFF_NANOS = Duration.ofMillis(500).toNanos();
+
+    private static final long CONNECT_TIMEOUT_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final Selector selector;
+
+    // targets added by other threads, picked up by the selector thread
+    private final Queue<Target> newTargets = new ConcurrentLinkedQueue<>();
+
+    // targets waiting for their next attempt, only accessed by the selector thread
+    private final PriorityQueue<Target> scheduledTargets = new PriorityQueue<>(
+        Comparator.comparingLong(target -> target.nextAttemptNanos)
+    );
+
+    SelectorPortProbe() {
+        try {
+            selector = Selector.open();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Thread thread = new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, this::run, "testcontainers-port-probe");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public static SelectorPortProbe getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Probes the given ports until all of them accept a connection.
+     *
+     * @param host the host to connect to
+     * @param ports the ports to connect to
+     * @return a future completed once all ports accepted a connection, to be cancelled to stop probing
+     */
+    public CompletableFuture<Void> probe(String host, Collection<Integer> ports) {
+        CompletableFuture<?>[] results = new CompletableFuture<?>[ports.size()];
+        int i = 0;
+        for (Integer port : ports) {
+            Target target = new Target(new InetSocketAddress(host, port));
+            newTargets.add(target);
+            results[i++] = target.result;
+        }
+        selector.wakeup();
+
+        CompletableFuture<Void> result = CompletableFuture.allOf(results);
+        // cancelling the aggregate doesn't cancel its components
+        result.whenComplete((__, e) -> {
+            for (CompletableFuture<?> portResult : results) {
+                portResult.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    private void run() {
+        while (true) {
+            try {
+                long now = System.nanoTime();
+
+                Target target;
+                while ((target = newTargets.poll()) != null) {
+                    attempt(target, now);
+                }
+                while ((target = scheduledTargets.peek()) != null && target.nextAttemptNanos <= now) {
+                    scheduledTargets.poll();
+                    attempt(target, now);
+                }
+                expireConnections(now);
+
+                selector.select(selectTimeoutMillis(now));
+
+                Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                while (selectedKeys.hasNext()) {
+                    SelectionKey key = selectedKeys.next();
+                    selectedKeys.remove();
+                    finishConnect(key, System.nanoTime());
+                }
+            } catch (Exception e) {
+                log.warn("Unexpected error while probing ports", e);
+            }
+        }
+    }
+
+    private void attempt(Target target, long now) {
+        if (target.result.isDone()) {
+            return;
+        }
+
+        SocketChannel channel = null;
+        try {
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            if (channel.connect(target.address)) {
+                channel.close();
+                target.result.complete(null);
+            } else {
+                target.connectDeadlineNanos = now + CONNECT_TIMEOUT_NANOS;
+                channel.register(selector, SelectionKey.OP_CONNECT, target);
+            }
+        } catch (Exception e) {
+            // IOException, or UnresolvedAddressException if the host can't be resolved
+            closeQuietly(channel);
+            retryLater(target, now);
+        }
+    }
+
+    private void finishConnect(SelectionKey key, long now) {
+        Target target = (Target) key.attachment();
+        SocketChannel channel = (SocketChannel) key.channel();
+        key.cancel();
+        try {
+            if (channel.finishConnect()) {
+                channel.close();
+                target.result.complete(null);
+                return;
+            }
+        } catch (IOException e) {
+            // not listening yet
+        }
+        closeQuietly(channel);
+        retryLater(target, now);
+    }
+
+    private void expireConnections(long now) {
+        for (SelectionKey key : selector.keys()) {
+            Target target = (Target) key.attachment();
+            if (!key.isValid()) {
+                continue;
+            }
+            if (target.result.isDone()) {
+                key.cancel();
+                closeQuietly(key.channel());
+            } else if (target.connectDeadlineNanos - now <= 0) {
+                key.cancel();
+                closeQuietly(key.channel());
+                retryLater(target, now);
+            }
+        }
+    }
+
+    private void retryLater(Target target, long now) {
+        if (target.result.isDone()) {
+            return;
+        }
+        target.nextAttemptNanos = now + target.backoffNanos;
+        target.backoffNanos = Math.min(target.backoffNanos * 2, MAX_BACKOFF_NANOS);
+        scheduledTargets.add(target);
+    }
+
+    private long selectTimeoutMillis(long now) {
+        long timeoutNanos = Long.MAX_VALUE;
+        Target next = scheduledTargets.peek();
+        if (next != null) {
+            timeoutNanos = next.nextAttemptNanos - now;
+        }
+        for (SelectionKey key : selector.keys()) {
+            if (key.isValid()) {
+                timeoutNanos = Math.min(timeoutNanos, ((Target) key.attachment()).connectDeadlineNanos - now);
+            }
+        }
+        if (timeoutNanos == Long.MAX_VALUE) {
+            // nothing to do until woken up
+            return 0;
+        }
+        // 0 would block indefinitely
+        return Math.max(1, Duration.ofNanos(timeoutNanos).toMillis());
+    }
+
+    private static void closeQuietly(Channel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+
+    private static final class Target {
+
+        private final InetSocketAddress address;
+
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private long backoffNanos = INITIAL_BACKOFF_NANOS;
+
+        private long nextAttemptNanos;
+
+        private long connectDeadlineNanos;
+
+        private Target(InetSocketAddress address) {
+            this.address = address;
+        }
+    }
+
+    private static final class InstanceHolder {
+
+        private static final SelectorPortProbe INSTANCE = new SelectorPortProbe();
+    }
+}
@@ -1,45 +1,32 @@
 package org.testcontainers.containers.wait.strategy;
 
 import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
 import org.rnorth.ducttape.ratelimits.RateLimiter;
-import org.rnorth.ducttape.ratelimits.RateLimiterBuilder;
+import org.testcontainers.UnstableAPI;
+import org.testcontainers.utility.TestcontainersConfiguration;
+import org.testcontainers.utility.TokenBucketRateLimiter;
 
 import java.time.Duration;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
 
+@Slf4j
 public abstract class AbstractWaitStrategy implements WaitStrategy {
 
-    static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(
-        new ThreadFactory() {
-            private final AtomicLong COUNTER = new AtomicLong(0);
-
-            @Override
-            public Thread newThread(Runnable r) {
-                Thread thread = new Thread(r, "testcontainers-wait-" + COUNTER.getAndIncrement());
-                thread.setDaemon(true);
-                return thread;
-            }
-        }
-    );
-
-    private static final RateLimiter DOCKER_CLIENT_RATE_LIMITER = RateLimiterBuilder
-        .newBuilder()
-        .withRate(1, TimeUnit.SECONDS)
-        .withConstantThroughput()
-        .build();
-
     protected WaitStrategyTarget waitStrategyTarget;
 
     @NonNull
     protected Duration startupTimeout = Duration.ofSeconds(60);
 
-    @NonNull
-    private RateLimiter rateLimiter = DOCKER_CLIENT_RATE_LIMITER;
+    @Nullable
+    private RateLimiter customRateLimiter;
+
+    // one per wait, so that the checks of independent containers don't queue behind each other. Like
+    // waitStrategyTarget, it belongs to the latest wait of this strategy instance
+    private TokenBucketRateLimiter targetRateLimiter;
+
+    private Duration firstCheckDelay = Duration.ZERO;
 
     /**
      * Wait until the target has started.
@@ -49,7 +36,30 @@ public abstract class AbstractWaitStrategy implements WaitStrategy {
     @Override
     public void waitUntilReady(WaitStrategyTarget waitStrategyTarget) {
         this.waitStrategyTarget = waitStrategyTarget;
+
+        String predictionKey = TestcontainersConfiguration.getInstance().isReadinessPredictorEnabled()
+            ? ReadinessPredictor.key(waitStrategyTarget, this)
+            : null;
+        this.firstCheckDelay =
+            predictionKey != null
+                ? ReadinessPredictor.getInstance().getFirstCheckDelay(predictionKey, startupTimeout.dividedBy(2))
+                : Duration.ZERO;
+        TokenBucketRateLimiter rateLimiter = TokenBucketRateLimiter.forTarget();
+        this.targetRateLimiter = rateLimiter;
+
+        long startTime = System.nanoTime();
         waitUntilReady();
+        if (predictionKey != null) {
+            ReadinessPredictor.getInstance().record(predictionKey, Duration.ofNanos(System.nanoTime() - startTime));
+        }
+
+        if (customRateLimiter == null) {
+            log.debug(
+                "Checks of {} waited {} for the rate limiters",
+                getClass().getSimpleName(),
+                rateLimiter.getQueueWaitTime()
+            );
+        }
     }
 
     /**
@@ -57,6 +67,15 @@ public abstract class AbstractWaitStrategy implements WaitStrategy {
      */
     protected abstract void waitUntilReady();
 
+    /**
+     * @return how long to wait before the first check, as predicted from the previous starts of the same image when
+     * {@code wait.predictor.enable} is set, or zero
+     */
+    @UnstableAPI
+    protected Duration getFirstCheckDelay() {
+        return firstCheckDelay;
+    }
+
     /**
      * Set the duration of waiting time until container treated as started.
      *
@@ -80,7 +99,20 @@ public abstract class AbstractWaitStrategy implements WaitStrategy {
      * @return the rate limiter to use
      */
     protected RateLimiter getRateLimiter() {
-        return rateLimiter;
+        if (customRateLimiter != null) {
+            return customRateLimiter;
+        }
+        if (targetRateLimiter == null) {
+            targetRateLimiter = TokenBucketRateLimiter.forTarget();
+        }
+        return targetRateLimiter;
+    }
+
+    /**
+     * @return whether a rate limiter was set with {@link #withRateLimiter(RateLimiter)}
+     */
+    boolean hasCustomRateLimiter() {
+        return customRateLimiter != null;
     }
 
     /**
@@ -89,8 +121,8 @@ public abstract class AbstractWaitStrategy implements WaitStrategy {
      * @param rateLimiter rateLimiter
      * @return this
      */
-    public WaitStrategy withRateLimiter(RateLimiter rateLimiter) {
-        this.rateLimiter = rateLimiter;
+    public WaitStrategy withRateLimiter(@NonNull RateLimiter rateLimiter) {
+        this.customRateLimiter = rateLimiter;
         return this;
     }
 }
@@ -0,0 +1,74 @@
+package org.testcontainers.containers.wait.strategy;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Finds which of a set of literal keywords occur in a text with a single pass over the text, using the Aho-Corasick
+ * algorithm.
+ */
+final class AhoCorasickMatcher {
+
+    private final Node root = new Node();
+
+    AhoCorasickMatcher(List<String> keywords) {
+        for (int i = 0; i < keywords.size(); i++) {
+            Node node = root;
+            for (char c : keywords.get(i).toCharArray()) {
+                node = node.children.computeIfAbsent(c, __ -> new Node());
+            }
+            node.keywords.set(i);
+        }
+
+        // breadth-first, so that the failure links of the shallower nodes are computed first
+        Queue<Node> queue = new ArrayDeque<>();
+        for (Node child : root.children.values()) {
+            child.failure = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                Node child = entry.getValue();
+                Node failure = node.failure;
+                while (failure != root && !failure.children.containsKey(entry.getKey())) {
+                    failure = failure.failure;
+                }
+                child.failure = failure.children.getOrDefault(entry.getKey(), root);
+                // a node also matches the keywords ending at its failure node, i.e. its suffixes
+                child.keywords.or(child.failure.keywords);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * @return the indexes of the keywords occurring in the text
+     */
+    BitSet match(CharSequence text) {
+        BitSet matches = new BitSet();
+        Node node = root;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            while (node != root && !node.children.containsKey(c)) {
+                node = node.failure;
+            }
+            node = node.children.getOrDefault(c, root);
+            matches.or(node.keywords);
+        }
+        return matches;
+    }
+
+    private static final class Node {
+
+        private final Map<Character, Node> children = new HashMap<>();
+
+        private final BitSet keywords = new BitSet();
+
+        private Node failure;
+    }
+}
@@ -0,0 +1,50 @@
+package org.testcontainers.containers.wait.strategy;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff between readiness checks: fast initial polls, so that services that are ready early are detected
+ * early, and growing delays, so that slow services are not polled needlessly. Jitter spreads the checks of containers
+ * started at the same time.
+ */
+final class Backoff {
+
+    static final Backoff DEFAULT = new Backoff(Duration.ofMillis(50), Duration.ofSeconds(1), 2, 0.2);
+
+    static final Backoff NONE = new Backoff(Duration.ZERO, Duration.ZERO, 1, 0);
+
+    private final long initialDelayNanos;
+
+    private final long maxDelayNanos;
+
+    private final double multiplier;
+
+    private final double jitterFactor;
+
+    Backoff(Duration initialDelay, Duration maxDelay, double multiplier, double jitterFactor) {
+        if (initialDelay.isNegative() || maxDelay.compareTo(initialDelay) < 0) {
+            throw new IllegalArgumentException("the delays must be positive, and the maximum at least the initial delay");
+        }
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("the multiplier must be at least 1");
+        }
+        if (jitterFactor < 0 || jitterFactor > 1) {
+            throw new IllegalArgumentException("the jitter factor must be between 0 and 1");
+        }
+        this.initialDelayNanos = initialDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.multiplier = multiplier;
+        this.jitterFactor = jitterFactor;
+    }
+
+    /**
+     * @param attempt the number of the failed attempt, starting at 0
+     * @return the delay before the next attempt
+     */
+    Duration delay(int attempt) {
+        double delayNanos = Math.min(initialDelayNanos * Math.pow(multiplier, attempt), maxDelayNanos);
+        double jitter = jitterFactor == 0 ? 0 : ThreadLocalRandom.current().nextDouble(-jitterFactor, jitterFactor);
+        return Duration.ofNanos((long) (delayNanos * (1 + jitter)));
+    }
+}
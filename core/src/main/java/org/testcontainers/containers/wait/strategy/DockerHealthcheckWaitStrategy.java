@@ -1,10 +1,9 @@
 package org.testcontainers.containers.wait.strategy;
 
-import org.rnorth.ducttape.TimeoutException;
-import org.rnorth.ducttape.unreliables.Unreliables;
 import org.testcontainers.containers.ContainerLaunchException;
 
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Wait strategy leveraging Docker's built-in healthcheck mechanism.
@@ -15,14 +14,16 @@ public class DockerHealthcheckWaitStrategy extends AbstractWaitStrategy {
 
     @Override
     protected void waitUntilReady() {
+        WaitScheduler.Polling polling = WaitScheduler
+            .getInstance()
+            .pollUntil(waitStrategyTarget::isHealthy, Backoff.DEFAULT, getFirstCheckDelay());
         try {
-            Unreliables.retryUntilTrue(
-                (int) startupTimeout.getSeconds(),
-                TimeUnit.SECONDS,
-                waitStrategyTarget::isHealthy
-            );
-        } catch (TimeoutException e) {
+            WaitScheduler.await(polling, startupTimeout);
+        } catch (ExecutionException | TimeoutException e) {
             throw new ContainerLaunchException("Timed out waiting for container to become healthy");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContainerLaunchException("Interrupted while waiting for container to become healthy", e);
         }
     }
 }
@@ -2,10 +2,11 @@ package org.testcontainers.containers.wait.strategy;
 
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
-import org.awaitility.Awaitility;
 import org.testcontainers.containers.ContainerLaunchException;
 import org.testcontainers.containers.wait.internal.ExternalPortListeningCheck;
 import org.testcontainers.containers.wait.internal.InternalCommandPortListeningCheck;
+import org.testcontainers.containers.wait.internal.SelectorPortProbe;
+import org.testcontainers.utility.TestcontainersConfiguration;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -14,8 +15,8 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
@@ -26,6 +27,10 @@ import java.util.stream.Collectors;
 @Slf4j
 public class HostPortWaitStrategy extends AbstractWaitStrategy {
 
+    private static final long POLL_INTERVAL_NANOS = Duration.ofMillis(100).toNanos();
+
+    private static final Backoff POLLING = new Backoff(Duration.ofMillis(100), Duration.ofMillis(100), 1, 0);
+
     private int[] ports;
 
     @Override
@@ -57,55 +62,41 @@ public class HostPortWaitStrategy extends AbstractWaitStrategy {
 
         Callable<Boolean> internalCheck = new InternalCommandPortListeningCheck(waitStrategyTarget, internalPorts);
 
-        Callable<Boolean> externalCheck = new ExternalPortListeningCheck(
-            waitStrategyTarget,
-            externalLivenessCheckPorts
-        );
+        long deadlineNanos = System.nanoTime() + startupTimeout.toNanos();
+        // Blocking
+        CompletableFuture<Boolean> internalResult = WaitScheduler.getInstance().submit(() -> {
+            Instant now = Instant.now();
+            Boolean result = internalCheck.call();
+            log.debug(
+                "Internal port check {} for {} in {}",
+                Boolean.TRUE.equals(result) ? "passed" : "failed",
+                internalPorts,
+                Duration.between(now, Instant.now())
+            );
+            return result;
+        });
 
         try {
-            List<Future<Boolean>> futures = EXECUTOR.invokeAll(
-                Arrays.asList(
-                    // Blocking
-                    () -> {
-                        Instant now = Instant.now();
-                        Boolean result = internalCheck.call();
-                        log.debug(
-                            "Internal port check {} for {} in {}",
-                            Boolean.TRUE.equals(result) ? "passed" : "failed",
-                            internalPorts,
-                            Duration.between(now, Instant.now())
-                        );
-                        return result;
-                    },
-                    // Polling
-                    () -> {
-                        Instant now = Instant.now();
-                        Awaitility
-                            .await()
-                            .pollInSameThread()
-                            .pollInterval(Duration.ofMillis(100))
-                            .pollDelay(Duration.ZERO)
-                            .failFast("container is no longer running", () -> !waitStrategyTarget.isRunning())
-                            .ignoreExceptions()
-                            .forever()
-                            .until(externalCheck);
-
-                        log.debug(
-                            "External port check passed for {} mapped as {} in {}",
-                            internalPorts,
-                            externalLivenessCheckPorts,
-                            Duration.between(now, Instant.now())
-                        );
-                        return true;
-                    }
-                ),
-                startupTimeout.getSeconds(),
-                TimeUnit.SECONDS
+            Instant now = Instant.now();
+            CompletableFuture<?> externalResult;
+            if (TestcontainersConfiguration.getInstance().isSelectorPortProbeEnabled()) {
+                externalResult =
+                    SelectorPortProbe.getInstance().probe(waitStrategyTarget.getHost(), externalLivenessCheckPorts);
+            } else {
+                externalResult =
+                    WaitScheduler
+                        .getInstance()
+                        .pollUntil(new ExternalPortListeningCheck(waitStrategyTarget, externalLivenessCheckPorts), POLLING);
+            }
+            awaitExternalPorts(externalResult, deadlineNanos);
+            log.debug(
+                "External port check passed for {} mapped as {} in {}",
+                internalPorts,
+                externalLivenessCheckPorts,
+                Duration.between(now, Instant.now())
             );
 
-            for (Future<Boolean> future : futures) {
-                future.get(0, TimeUnit.SECONDS);
-            }
+            internalResult.get(remainingNanos(deadlineNanos), TimeUnit.NANOSECONDS);
         } catch (CancellationException | ExecutionException | TimeoutException e) {
             throw new ContainerLaunchException(
                 "Timed out waiting for container port to open (" +
@@ -114,9 +105,39 @@ public class HostPortWaitStrategy extends AbstractWaitStrategy {
                 externalLivenessCheckPorts +
                 " should be listening)"
             );
+        } finally {
+            internalResult.cancel(true);
+        }
+    }
+
+    /**
+     * Waits for the external check to connect to all ports, failing fast if the container stops.
+     */
+    private void awaitExternalPorts(CompletableFuture<?> probe, long deadlineNanos)
+        throws InterruptedException, ExecutionException, TimeoutException {
+        try {
+            while (true) {
+                try {
+                    probe.get(Math.min(POLL_INTERVAL_NANOS, remainingNanos(deadlineNanos)), TimeUnit.NANOSECONDS);
+                    return;
+                } catch (TimeoutException e) {
+                    if (remainingNanos(deadlineNanos) <= 0) {
+                        throw e;
+                    }
+                    if (!waitStrategyTarget.isRunning()) {
+                        throw new ExecutionException(new IllegalStateException("container is no longer running"));
+                    }
+                }
+            }
+        } finally {
+            probe.cancel(false);
         }
     }
 
+    private static long remainingNanos(long deadlineNanos) {
+        return Math.max(0, deadlineNanos - System.nanoTime());
+    }
+
     private Set<Integer> getInternalPorts(Set<Integer> externalLivenessCheckPorts, List<Integer> exposedPorts) {
         return exposedPorts
             .stream()
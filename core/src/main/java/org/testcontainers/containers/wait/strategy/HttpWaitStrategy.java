@@ -2,12 +2,13 @@ package org.testcontainers.containers.wait.strategy;
 
 import com.google.common.base.Strings;
 import com.google.common.io.BaseEncoding;
+import com.google.common.io.ByteStreams;
 import lombok.extern.slf4j.Slf4j;
-import org.rnorth.ducttape.TimeoutException;
 import org.testcontainers.containers.ContainerLaunchException;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
@@ -24,7 +25,10 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
 
 import javax.net.ssl.HttpsURLConnection;
@@ -34,8 +38,6 @@ import javax.net.ssl.SSLEngine;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509ExtendedTrustManager;
 
-import static org.rnorth.ducttape.unreliables.Unreliables.retryUntilSuccess;
-
 @Slf4j
 public class HttpWaitStrategy extends AbstractWaitStrategy {
 
@@ -49,6 +51,11 @@ public class HttpWaitStrategy extends AbstractWaitStrategy {
      */
     private static final String AUTH_BASIC = "Basic ";
 
+    /**
+     * Maximum number of bytes of a response body read to reuse its connection.
+     */
+    private static final int MAX_DISCARDED_BYTES = 8 * 1024;
+
     private String path = "/";
 
     private String method = "GET";
@@ -73,6 +80,8 @@ public class HttpWaitStrategy extends AbstractWaitStrategy {
 
     private boolean allowInsecure;
 
+    private Backoff backoff = Backoff.DEFAULT;
+
     /**
      * Waits for the given status code.
      *
@@ -182,7 +191,8 @@ public class HttpWaitStrategy extends AbstractWaitStrategy {
     }
 
     /**
-     * Set the HTTP connections read timeout.
+     * Set the HTTP connections read timeout. It is also the connect timeout, and a check is aborted after twice this
+     * timeout, however long its response takes to read.
      *
      * @param timeout the timeout (minimum 1 millisecond)
      * @return this
@@ -195,6 +205,28 @@ public class HttpWaitStrategy extends AbstractWaitStrategy {
         return this;
     }
 
+    /**
+     * Set the backoff between the checks: the first retry happens after the initial delay, and each following delay
+     * grows by the multiplier up to the maximum delay. Each delay is randomly varied by up to the jitter factor.
+     * <p>
+     * The backoff is not used if a rate limiter is set with {@code withRateLimiter}.
+     *
+     * @param initialDelay the delay before the first retry (50 milliseconds by default)
+     * @param maxDelay the maximum delay between two checks (1 second by default)
+     * @param multiplier the growth factor of the delay, at least 1 (2 by default)
+     * @param jitterFactor the relative random variation of the delays, between 0 and 1 (0.2 by default)
+     * @return this
+     */
+    public HttpWaitStrategy withBackoff(
+        Duration initialDelay,
+        Duration maxDelay,
+        double multiplier,
+        double jitterFactor
+    ) {
+        this.backoff = new Backoff(initialDelay, maxDelay, multiplier, jitterFactor);
+        return this;
+    }
+
     /**
      * Waits for the response to pass the given predicate
      * @param responsePredicate The predicate to test the response against
@@ -248,82 +280,116 @@ public class HttpWaitStrategy extends AbstractWaitStrategy {
         }
 
         // try to connect to the URL
+        final Callable<Boolean> check = () -> {
+            checkResponse(uri);
+            return true;
+        };
+        final WaitScheduler.Polling polling;
+        if (hasCustomRateLimiter()) {
+            polling =
+                WaitScheduler
+                    .getInstance()
+                    .pollUntil(() -> getRateLimiter().getWhenReady(check), Backoff.NONE, getFirstCheckDelay());
+        } else {
+            polling = WaitScheduler.getInstance().pollUntil(check, backoff, getFirstCheckDelay());
+        }
+
         try {
-            retryUntilSuccess(
-                (int) startupTimeout.getSeconds(),
-                TimeUnit.SECONDS,
-                () -> {
-                    getRateLimiter()
-                        .doWhenReady(() -> {
-                            try {
-                                final HttpURLConnection connection = openConnection(uri);
-                                connection.setReadTimeout(Math.toIntExact(readTimeout.toMillis()));
-
-                                // authenticate
-                                if (!Strings.isNullOrEmpty(username)) {
-                                    connection.setRequestProperty(
-                                        HEADER_AUTHORIZATION,
-                                        buildAuthString(username, password)
-                                    );
-                                    connection.setUseCaches(false);
-                                }
-
-                                // Add user configured headers
-                                this.headers.forEach(connection::setRequestProperty);
-                                connection.setRequestMethod(method);
-                                connection.connect();
-
-                                log.trace("Get response code {}", connection.getResponseCode());
-
-                                // Choose the statusCodePredicate strategy depending on what we defined.
-                                Predicate<Integer> predicate;
-                                if (statusCodes.isEmpty() && statusCodePredicate == null) {
-                                    // We have no status code and no predicate so we expect a 200 OK response code
-                                    predicate = responseCode -> HttpURLConnection.HTTP_OK == responseCode;
-                                } else if (!statusCodes.isEmpty() && statusCodePredicate == null) {
-                                    // We use the default status predicate checker when we only have status codes
-                                    predicate = responseCode -> statusCodes.contains(responseCode);
-                                } else if (statusCodes.isEmpty()) {
-                                    // We only have a predicate
-                                    predicate = statusCodePredicate;
-                                } else {
-                                    // We have both predicate and status code
-                                    predicate =
-                                        statusCodePredicate.or(responseCode -> statusCodes.contains(responseCode));
-                                }
-                                if (!predicate.test(connection.getResponseCode())) {
-                                    throw new RuntimeException(
-                                        String.format("HTTP response code was: %s", connection.getResponseCode())
-                                    );
-                                }
-
-                                if (responsePredicate != null) {
-                                    String responseBody = getResponseBody(connection);
-
-                                    log.trace("Get response {}", responseBody);
-
-                                    if (!responsePredicate.test(responseBody)) {
-                                        throw new RuntimeException(
-                                            String.format("Response: %s did not match predicate", responseBody)
-                                        );
-                                    }
-                                }
-                            } catch (IOException e) {
-                                throw new RuntimeException(e);
-                            }
-                        });
-                    return true;
-                }
-            );
-        } catch (TimeoutException e) {
+            WaitScheduler.await(polling, startupTimeout);
+        } catch (ExecutionException | TimeoutException e) {
             throw new ContainerLaunchException(
                 String.format(
                     "Timed out waiting for URL to be accessible (%s should return HTTP %s)",
                     uri,
                     statusCodes.isEmpty() ? HttpURLConnection.HTTP_OK : statusCodes
                 ),
-                e
+                polling.getLastFailure()
             );
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContainerLaunchException("Interrupted while waiting for URL to be accessible", e);
+        }
+    }
+
+    private void checkResponse(String uri) throws IOException {
+        final HttpURLConnection connection = openConnection(uri);
+        connection.setConnectTimeout(Math.toIntExact(readTimeout.toMillis()));
+        connection.setReadTimeout(Math.toIntExact(readTimeout.toMillis()));
+
+        // authenticate
+        if (!Strings.isNullOrEmpty(username)) {
+            connection.setRequestProperty(HEADER_AUTHORIZATION, buildAuthString(username, password));
+            connection.setUseCaches(false);
+        }
+
+        // Add user configured headers
+        this.headers.forEach(connection::setRequestProperty);
+        connection.setRequestMethod(method);
+
+        // the timeouts only bound each read, so the whole check is aborted if the response keeps trickling in
+        ScheduledFuture<?> abort = WaitScheduler
+            .getInstance()
+            .schedule(connection::disconnect, readTimeout.multipliedBy(2));
+        try {
+            connection.connect();
+            checkResponse(connection);
+        } finally {
+            abort.cancel(false);
+        }
+    }
+
+    private void checkResponse(HttpURLConnection connection) throws IOException {
+        try {
+            log.trace("Get response code {}", connection.getResponseCode());
+
+            // Choose the statusCodePredicate strategy depending on what we defined.
+            Predicate<Integer> predicate;
+            if (statusCodes.isEmpty() && statusCodePredicate == null) {
+                // We have no status code and no predicate so we expect a 200 OK response code
+                predicate = responseCode -> HttpURLConnection.HTTP_OK == responseCode;
+            } else if (!statusCodes.isEmpty() && statusCodePredicate == null) {
+                // We use the default status predicate checker when we only have status codes
+                predicate = responseCode -> statusCodes.contains(responseCode);
+            } else if (statusCodes.isEmpty()) {
+                // We only have a predicate
+                predicate = statusCodePredicate;
+            } else {
+                // We have both predicate and status code
+                predicate = statusCodePredicate.or(responseCode -> statusCodes.contains(responseCode));
+            }
+            if (!predicate.test(connection.getResponseCode())) {
+                throw new RuntimeException(String.format("HTTP response code was: %s", connection.getResponseCode()));
+            }
+
+            if (responsePredicate != null) {
+                String responseBody = getResponseBody(connection);
+
+                log.trace("Get response {}", responseBody);
+
+                if (!responsePredicate.test(responseBody)) {
+                    throw new RuntimeException(String.format("Response: %s did not match predicate", responseBody));
+                }
+            }
+        } finally {
+            discardResponseBody(connection);
+        }
+    }
+
+    /**
+     * Reads the rest of the response body and closes it, so that the connection can be reused by the next check. The
+     * connection of a larger body, e.g. a streaming response, is closed instead.
+     */
+    private void discardResponseBody(HttpURLConnection connection) {
+        try (InputStream body = getResponseStream(connection)) {
+            if (body != null) {
+                ByteStreams.exhaust(ByteStreams.limit(body, MAX_DISCARDED_BYTES));
+                if (body.read() != -1) {
+                    connection.disconnect();
+                }
+            }
+        } catch (IOException e) {
+            // the connection is not reusable, which only costs a new connection
+            connection.disconnect();
         }
     }
 
@@ -405,13 +471,16 @@ public class HttpWaitStrategy extends AbstractWaitStrategy {
         return AUTH_BASIC + BaseEncoding.base64().encode((username + ":" + password).getBytes());
     }
 
-    private String getResponseBody(HttpURLConnection connection) throws IOException {
-        BufferedReader reader;
+    private InputStream getResponseStream(HttpURLConnection connection) throws IOException {
         if (200 <= connection.getResponseCode() && connection.getResponseCode() <= 299) {
-            reader = new BufferedReader(new InputStreamReader((connection.getInputStream())));
+            return connection.getInputStream();
         } else {
-            reader = new BufferedReader(new InputStreamReader((connection.getErrorStream())));
+            return connection.getErrorStream();
         }
+    }
+
+    private String getResponseBody(HttpURLConnection connection) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(getResponseStream(connection)));
 
         StringBuilder builder = new StringBuilder();
         String line;
@@ -0,0 +1,82 @@
+package org.testcontainers.containers.wait.strategy;
+
+import org.jetbrains.annotations.Nullable;
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Matches log output as it is delivered by the log stream, completing {@link #getResult()} once each pattern and
+ * message matched the expected number of times. No thread has to poll for matches.
+ * <p>
+ * Frames are delivered by a single thread, so the state is not synchronized.
+ */
+final class LogMessageMatcher implements Consumer<OutputFrame> {
+
+    private final List<Pattern> patterns;
+
+    @Nullable
+    private final AhoCorasickMatcher messages;
+
+    private final int times;
+
+    // match counts of the patterns, followed by the ones of the messages
+    private final int[] matchCounts;
+
+    private int remaining;
+
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+    LogMessageMatcher(List<Pattern> patterns, List<String> messages, int times) {
+        this.patterns = patterns;
+        this.messages = messages.isEmpty() ? null : new AhoCorasickMatcher(messages);
+        this.times = times;
+        this.matchCounts = new int[patterns.size() + messages.size()];
+        this.remaining = matchCounts.length;
+        if (remaining == 0 || times <= 0) {
+            result.complete(null);
+        }
+    }
+
+    CompletableFuture<Void> getResult() {
+        return result;
+    }
+
+    @Override
+    public void accept(OutputFrame frame) {
+        if (result.isDone()) {
+            return;
+        }
+        if (frame == OutputFrame.END) {
+            result.completeExceptionally(new IllegalStateException("Log output ended"));
+            return;
+        }
+
+        String line = frame.getUtf8String();
+        for (int i = 0; i < patterns.size(); i++) {
+            if (matchCounts[i] < times && patterns.get(i).matcher(line).matches()) {
+                countMatch(i);
+            }
+        }
+        if (messages != null) {
+            BitSet matches = messages.match(line);
+            for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+                countMatch(patterns.size() + i);
+            }
+        }
+
+        if (remaining == 0) {
+            result.complete(null);
+        }
+    }
+
+    private void countMatch(int index) {
+        if (++matchCounts[index] == times) {
+            remaining--;
+        }
+    }
+}
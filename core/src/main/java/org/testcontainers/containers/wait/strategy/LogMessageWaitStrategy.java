@@ -3,25 +3,53 @@ package org.testcontainers.containers.wait.strategy;
 import com.github.dockerjava.api.command.LogContainerCmd;
 import lombok.SneakyThrows;
 import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.ContainerLogHub;
 import org.testcontainers.containers.output.FrameConsumerResultCallback;
 import org.testcontainers.containers.output.OutputFrame;
-import org.testcontainers.containers.output.WaitingConsumer;
+import org.testcontainers.utility.TestcontainersConfiguration;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class LogMessageWaitStrategy extends AbstractWaitStrategy {
 
-    private String regEx;
+    private List<String> regExes = Collections.emptyList();
+
+    // compiled once, (?s) enables line terminator matching (equivalent to Pattern.DOTALL)
+    private List<Pattern> patterns = Collections.emptyList();
+
+    private List<String> messages = Collections.emptyList();
 
     private int times = 1;
 
     @Override
-    @SneakyThrows(IOException.class)
+    @SneakyThrows({ IOException.class, InterruptedException.class })
     protected void waitUntilReady() {
-        WaitingConsumer waitingConsumer = new WaitingConsumer();
+        LogMessageMatcher matcher = new LogMessageMatcher(patterns, messages, times);
+
+        if (TestcontainersConfiguration.getInstance().isLogHubEnabled()) {
+            ContainerLogHub hub = ContainerLogHub.of(
+                waitStrategyTarget.getDockerClient(),
+                waitStrategyTarget.getContainerId()
+            );
+            // once the history is truncated, earlier matches are only found by reading the output from the start
+            if (hub.subscribeFromStart(matcher, OutputFrame.OutputType.STDOUT, OutputFrame.OutputType.STDERR)) {
+                try {
+                    awaitMatch(matcher);
+                } finally {
+                    hub.unsubscribe(matcher);
+                }
+                return;
+            }
+        }
 
         LogContainerCmd cmd = waitStrategyTarget
             .getDockerClient()
@@ -32,25 +60,54 @@ public class LogMessageWaitStrategy extends AbstractWaitStrategy {
             .withStdErr(true);
 
         try (FrameConsumerResultCallback callback = new FrameConsumerResultCallback()) {
-            callback.addConsumer(OutputFrame.OutputType.STDOUT, waitingConsumer);
-            callback.addConsumer(OutputFrame.OutputType.STDERR, waitingConsumer);
+            callback.addConsumer(OutputFrame.OutputType.STDOUT, matcher);
+            callback.addConsumer(OutputFrame.OutputType.STDERR, matcher);
 
             cmd.exec(callback);
 
-            Predicate<OutputFrame> waitPredicate = outputFrame -> {
-                // (?s) enables line terminator matching (equivalent to Pattern.DOTALL)
-                return outputFrame.getUtf8String().matches("(?s)" + regEx);
-            };
-            try {
-                waitingConsumer.waitUntil(waitPredicate, startupTimeout.getSeconds(), TimeUnit.SECONDS, times);
-            } catch (TimeoutException e) {
-                throw new ContainerLaunchException("Timed out waiting for log output matching '" + regEx + "'");
-            }
+            awaitMatch(matcher);
+        }
+    }
+
+    private void awaitMatch(LogMessageMatcher matcher) throws InterruptedException {
+        try {
+            matcher.getResult().get(startupTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ContainerLaunchException("Timed out waiting for log output matching " + describe());
+        } catch (ExecutionException e) {
+            throw new ContainerLaunchException("Log output ended before matching " + describe(), e.getCause());
         }
     }
 
+    private String describe() {
+        return Stream
+            .concat(regExes.stream(), messages.stream())
+            .map(it -> "'" + it + "'")
+            .collect(Collectors.joining(", "));
+    }
+
     public LogMessageWaitStrategy withRegEx(String regEx) {
-        this.regEx = regEx;
+        return withRegExes(regEx);
+    }
+
+    /**
+     * Waits until each of the given regular expressions matched a whole line of the log output,
+     * as many times as set with {@link #withTimes(int)}.
+     * All the expressions are evaluated in the same pass over the log output.
+     */
+    public LogMessageWaitStrategy withRegExes(String... regExes) {
+        this.regExes = Arrays.asList(regExes);
+        this.patterns = this.regExes.stream().map(it -> Pattern.compile("(?s)" + it)).collect(Collectors.toList());
+        return this;
+    }
+
+    /**
+     * Waits until each of the given literal messages is contained in a line of the log output,
+     * as many times as set with {@link #withTimes(int)}.
+     * Each line is scanned once for all the messages, which is cheaper than the equivalent regular expressions.
+     */
+    public LogMessageWaitStrategy withMessages(String... messages) {
+        this.messages = Arrays.asList(messages);
         return this;
     }
 
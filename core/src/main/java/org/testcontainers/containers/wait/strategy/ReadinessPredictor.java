@@ -0,0 +1,207 @@
+package org.testcontainers.containers.wait.strategy;
+
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+/**
+ * Predicts how long a wait strategy takes for an image from the durations recorded by previous starts, so that the
+ * first check can be delayed until the target is likely to be ready.
+ * <p>
+ * The durations are recorded per image ID and strategy type in a properties file shared by all JVMs, which update it
+ * under a file lock. The first check is delayed to shortly before the 10th percentile of the recorded durations, after
+ * which the strategies check with their usual short delays.
+ */
+@Slf4j
+final class ReadinessPredictor {
+
+    private static final int MAX_SAMPLES = 20;
+
+    private static final int MIN_SAMPLES = 3;
+
+    // start a bit before the fastest usual starts, so that an even faster start is still detected promptly
+    private static final double EARLY_START_FACTOR = 0.9;
+
+    // recording is best effort, so it is skipped rather than holding up the container
+    private static final Duration LOCK_TIMEOUT = Duration.ofSeconds(1);
+
+    private static final long LOCK_POLL_INTERVAL_MILLIS = 10;
+
+    private final Path file;
+
+    @Nullable
+    private Map<String, List<Long>> durations;
+
+    ReadinessPredictor(Path file) {
+        this.file = file;
+    }
+
+    static ReadinessPredictor getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * @return the key of the durations of the strategy for the image of the target, or null if the image is unknown
+     */
+    @Nullable
+    static String key(WaitStrategyTarget target, WaitStrategy strategy) {
+        InspectContainerResponse containerInfo = target.getContainerInfo();
+        if (containerInfo == null || containerInfo.getImageId() == null) {
+            return null;
+        }
+        return containerInfo.getImageId() + "/" + strategy.getClass().getName();
+    }
+
+    /**
+     * @param maxDelay the maximum delay to return
+     * @return the delay before the first check, or zero if not enough durations have been recorded yet
+     */
+    synchronized Duration getFirstCheckDelay(String key, Duration maxDelay) {
+        if (durations == null) {
+            durations = read();
+        }
+        List<Long> recorded = durations.get(key);
+        if (recorded == null || recorded.size() < MIN_SAMPLES) {
+            return Duration.ZERO;
+        }
+
+        long[] sorted = recorded.stream().mapToLong(Long::longValue).sorted().toArray();
+        long p10 = sorted[(sorted.length - 1) / 10];
+        Duration delay = Duration.ofMillis((long) (p10 * EARLY_START_FACTOR));
+        return delay.compareTo(maxDelay) < 0 ? delay : maxDelay;
+    }
+
+    synchronized void record(String key, Duration duration) {
+        Path directory = file.toAbsolutePath().getParent();
+        try {
+            Files.createDirectories(directory);
+            try (
+                FileChannel channel = FileChannel.open(
+                    directory.resolve(file.getFileName() + ".lock"),
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE
+                );
+                FileLock lock = tryLock(channel)
+            ) {
+                if (lock == null) {
+                    log.debug("Timed out waiting for another process recording startup durations in {}", file);
+                    return;
+                }
+
+                // re-read, so that the durations recorded by other JVMs in the meantime are kept
+                durations = read();
+                List<Long> recorded = durations.computeIfAbsent(key, __ -> new ArrayList<>());
+                recorded.add(duration.toMillis());
+                while (recorded.size() > MAX_SAMPLES) {
+                    recorded.remove(0);
+                }
+                write(durations);
+            }
+        } catch (IOException e) {
+            log.debug("Failed to lock the startup durations in {}", file, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Locks the file against the other JVMs recording durations, waiting up to {@link #LOCK_TIMEOUT}.
+     *
+     * @return the lock, or null if it wasn't released in time
+     */
+    @Nullable
+    private static FileLock tryLock(FileChannel channel) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + LOCK_TIMEOUT.toNanos();
+        FileLock lock;
+        while ((lock = channel.tryLock()) == null) {
+            if (System.nanoTime() - deadline >= 0) {
+                return null;
+            }
+            Thread.sleep(LOCK_POLL_INTERVAL_MILLIS);
+        }
+        return lock;
+    }
+
+    private Map<String, List<Long>> read() {
+        Map<String, List<Long>> result = new HashMap<>();
+        Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            properties.load(inputStream);
+        } catch (NoSuchFileException e) {
+            return result;
+        } catch (IOException e) {
+            log.debug("Failed to read the recorded startup durations from {}", file, e);
+            return result;
+        }
+
+        for (String key : properties.stringPropertyNames()) {
+            List<Long> recorded = new ArrayList<>();
+            try {
+                for (String value : properties.getProperty(key).split(",")) {
+                    recorded.add(Long.parseLong(value.trim()));
+                }
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring malformed startup durations of {}", key);
+                continue;
+            }
+            result.put(key, recorded);
+        }
+        return result;
+    }
+
+    private void write(Map<String, List<Long>> durations) {
+        Properties properties = new Properties();
+        durations.forEach((key, recorded) -> {
+            properties.setProperty(key, recorded.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        });
+
+        Path directory = file.toAbsolutePath().getParent();
+        Path temporaryFile = null;
+        try {
+            Files.createDirectories(directory);
+            temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (OutputStream outputStream = Files.newOutputStream(temporaryFile)) {
+                properties.store(outputStream, "Startup durations recorded by Testcontainers, in milliseconds");
+            }
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.debug("Failed to record the startup durations in {}", file, e);
+            if (temporaryFile != null) {
+                try {
+                    Files.deleteIfExists(temporaryFile);
+                } catch (IOException ignored) {}
+            }
+        }
+    }
+
+    private static final class Holder {
+
+        private static final ReadinessPredictor INSTANCE = new ReadinessPredictor(
+            TestcontainersConfiguration.getInstance().getReadinessPredictorFile()
+        );
+    }
+}
@@ -1,10 +1,10 @@
 package org.testcontainers.containers.wait.strategy;
 
-import org.rnorth.ducttape.TimeoutException;
-import org.rnorth.ducttape.unreliables.Unreliables;
 import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.utility.TestcontainersConfiguration;
 
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
 public class ShellStrategy extends AbstractWaitStrategy {
 
@@ -17,16 +17,27 @@ public class ShellStrategy extends AbstractWaitStrategy {
 
     @Override
     protected void waitUntilReady() {
-        try {
-            Unreliables.retryUntilTrue(
-                (int) startupTimeout.getSeconds(),
-                TimeUnit.SECONDS,
-                () -> waitStrategyTarget.execInContainer("/bin/sh", "-c", this.command).getExitCode() == 0
+        WaitScheduler.Polling polling = WaitScheduler
+            .getInstance()
+            .pollUntil(
+                () -> {
+                    if (TestcontainersConfiguration.getInstance().isExecChannelEnabled()) {
+                        return waitStrategyTarget.execInChannel("/bin/sh", "-c", this.command).getExitCode() == 0;
+                    }
+                    return waitStrategyTarget.execInContainer("/bin/sh", "-c", this.command).getExitCode() == 0;
+                },
+                Backoff.DEFAULT,
+                getFirstCheckDelay()
             );
-        } catch (TimeoutException e) {
+        try {
+            WaitScheduler.await(polling, startupTimeout);
+        } catch (ExecutionException | TimeoutException e) {
             throw new ContainerLaunchException(
                 "Timed out waiting for container to execute `" + this.command + "` successfully."
             );
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContainerLaunchException("Interrupted while waiting for `" + this.command + "` to succeed", e);
         }
     }
 }
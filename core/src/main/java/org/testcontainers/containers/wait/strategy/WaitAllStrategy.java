@@ -1,12 +1,16 @@
 package org.testcontainers.containers.wait.strategy;
 
-import org.rnorth.ducttape.timeouts.Timeouts;
+import com.google.common.base.Throwables;
+import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
+@Slf4j
 public class WaitAllStrategy implements WaitStrategy {
 
     public enum Mode {
@@ -30,6 +34,13 @@ public class WaitAllStrategy implements WaitStrategy {
          * individually and the wait all strategy kills them, if the outer limit is reached.
          */
         WITH_MAXIMUM_OUTER_TIMEOUT,
+
+        /**
+         * Like {@link #WITH_MAXIMUM_OUTER_TIMEOUT}, but the inner strategies wait concurrently, so that the container
+         * waits for the slowest of them instead of the sum of their durations. Waiting fails as soon as one of them
+         * fails, stopping the others.
+         */
+        CONCURRENT,
     }
 
     private final Mode mode;
@@ -51,13 +62,29 @@ public class WaitAllStrategy implements WaitStrategy {
         if (mode == Mode.WITH_INDIVIDUAL_TIMEOUTS_ONLY) {
             waitUntilNestedStrategiesAreReady(waitStrategyTarget);
         } else {
-            Timeouts.doWithTimeout(
-                (int) timeout.toMillis(),
-                TimeUnit.MILLISECONDS,
-                () -> {
-                    waitUntilNestedStrategiesAreReady(waitStrategyTarget);
-                }
-            );
+            CompletableFuture<Void> result;
+            if (mode == Mode.CONCURRENT) {
+                result = waitUntilNestedStrategiesAreReadyConcurrently(waitStrategyTarget);
+            } else {
+                result =
+                    WaitScheduler
+                        .getInstance()
+                        .submit(() -> {
+                            waitUntilNestedStrategiesAreReady(waitStrategyTarget);
+                            return null;
+                        });
+            }
+            try {
+                WaitScheduler.await(result, timeout);
+            } catch (ExecutionException e) {
+                Throwables.throwIfUnchecked(e.getCause());
+                throw new RuntimeException(e.getCause());
+            } catch (TimeoutException e) {
+                throw new org.rnorth.ducttape.TimeoutException("Timeout waiting for all strategies", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
         }
     }
 
@@ -67,6 +94,62 @@ public class WaitAllStrategy implements WaitStrategy {
         }
     }
 
+    private CompletableFuture<Void> waitUntilNestedStrategiesAreReadyConcurrently(
+        WaitStrategyTarget waitStrategyTarget
+    ) {
+        List<CompletableFuture<Duration>> results = new ArrayList<>();
+        for (WaitStrategy strategy : strategies) {
+            results.add(
+                WaitScheduler
+                    .getInstance()
+                    .submit(() -> {
+                        long startTime = System.nanoTime();
+                        strategy.waitUntilReady(waitStrategyTarget);
+                        return Duration.ofNanos(System.nanoTime() - startTime);
+                    })
+            );
+        }
+
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        for (CompletableFuture<Duration> strategyResult : results) {
+            strategyResult.whenComplete((__, e) -> {
+                if (e != null) {
+                    result.completeExceptionally(e);
+                }
+            });
+        }
+        CompletableFuture
+            .allOf(results.toArray(new CompletableFuture[0]))
+            .thenRun(() -> {
+                logSlowestStrategy(results);
+                result.complete(null);
+            });
+        // stop the remaining strategies once one failed, or the outer timeout is reached
+        result.whenComplete((__, e) -> results.forEach(it -> it.cancel(true)));
+        return result;
+    }
+
+    private void logSlowestStrategy(List<CompletableFuture<Duration>> results) {
+        int slowest = -1;
+        Duration slowestDuration = Duration.ZERO;
+        for (int i = 0; i < results.size(); i++) {
+            Duration duration = results.get(i).join();
+            if (slowest < 0 || duration.compareTo(slowestDuration) > 0) {
+                slowest = i;
+                slowestDuration = duration;
+            }
+        }
+        if (slowest >= 0) {
+            log.debug(
+                "All {} strategies are ready, the slowest was {} (#{}) in {}",
+                results.size(),
+                strategies.get(slowest).getClass().getSimpleName(),
+                slowest + 1,
+                slowestDuration
+            );
+        }
+    }
+
     public WaitAllStrategy withStrategy(WaitStrategy strategy) {
         if (mode == Mode.WITH_OUTER_TIMEOUT) {
             applyStartupTimeout(strategy);
@@ -0,0 +1,181 @@
+package org.testcontainers.containers.wait.strategy;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+import org.testcontainers.DockerClientFactory;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Scheduler shared by the wait strategies to run their checks.
+ * <p>
+ * Checks run on virtual threads when the JVM supports them, and on a cached pool of daemon threads otherwise. The
+ * delays between attempts are handled by a single timer thread, so that no thread is parked while waiting for the
+ * next attempt.
+ */
+@Slf4j
+final class WaitScheduler {
+
+    private static final WaitScheduler INSTANCE = new WaitScheduler();
+
+    private final ExecutorService workers = createWorkers();
+
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, runnable, "testcontainers-wait-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static WaitScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Runs a task on a worker thread.
+     *
+     * @return the result of the task, to be cancelled with interruption if it is no longer needed
+     */
+    <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> execution = workers.submit(() -> {
+            try {
+                result.complete(task.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        result.whenComplete((__, e) -> {
+            if (result.isCancelled()) {
+                execution.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Runs a short task on the timer thread after a delay, e.g. to abort a check that takes too long.
+     */
+    ScheduledFuture<?> schedule(Runnable task, Duration delay) {
+        return timer.schedule(task, delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Repeats the check until it returns {@code true}, with the delays of the given backoff between attempts.
+     * Exceptions thrown by the check are treated as a failed attempt.
+     *
+     * @return completed once the check succeeded, to be cancelled to stop the attempts
+     */
+    Polling pollUntil(Callable<Boolean> check, Backoff backoff) {
+        return pollUntil(check, backoff, Duration.ZERO);
+    }
+
+    /**
+     * Like {@link #pollUntil(Callable, Backoff)}, with a delay before the first attempt.
+     */
+    Polling pollUntil(Callable<Boolean> check, Backoff backoff, Duration firstDelay) {
+        Polling polling = new Polling(check, backoff);
+        if (firstDelay.isZero()) {
+            polling.attempt();
+        } else {
+            timer.schedule(polling::attempt, firstDelay.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        return polling;
+    }
+
+    /**
+     * Waits for the result of a check on the calling thread, cancelling it if it is not completed in time.
+     */
+    static <T> T await(CompletableFuture<T> result, Duration timeout)
+        throws InterruptedException, ExecutionException, TimeoutException {
+        try {
+            return result.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } finally {
+            result.cancel(true);
+        }
+    }
+
+    private static ExecutorService createWorkers() {
+        try {
+            // Java 21+
+            ExecutorService executor = (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+            log.debug("Running wait strategy checks on virtual threads");
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            AtomicLong counter = new AtomicLong(0);
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(
+                    DockerClientFactory.TESTCONTAINERS_THREAD_GROUP,
+                    runnable,
+                    "testcontainers-wait-" + counter.getAndIncrement()
+                );
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * A repeated check. Completed once the check succeeded.
+     */
+    final class Polling extends CompletableFuture<Void> {
+
+        private final Callable<Boolean> check;
+
+        private final Backoff backoff;
+
+        private final AtomicReference<Exception> lastFailure = new AtomicReference<>();
+
+        private int attempts;
+
+        private Polling(Callable<Boolean> check, Backoff backoff) {
+            this.check = check;
+            this.backoff = backoff;
+        }
+
+        /**
+         * @return the exception thrown by the last failed attempt, if any
+         */
+        @Nullable
+        Exception getLastFailure() {
+            return lastFailure.get();
+        }
+
+        private void attempt() {
+            if (isDone()) {
+                return;
+            }
+            workers.execute(() -> {
+                if (isDone()) {
+                    return;
+                }
+                try {
+                    if (Boolean.TRUE.equals(check.call())) {
+                        complete(null);
+                        return;
+                    }
+                } catch (Exception e) {
+                    lastFailure.set(e);
+                }
+                // only accessed by one attempt at a time
+                Duration delay = backoff.delay(attempts++);
+                if (!isDone()) {
+                    timer.schedule(this::attempt, delay.toNanos(), TimeUnit.NANOSECONDS);
+                }
+            });
+        }
+    }
+}
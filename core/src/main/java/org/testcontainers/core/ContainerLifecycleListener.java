@@ -0,0 +1,90 @@
+package org.testcontainers.core;
+
+import lombok.Value;
+import org.jetbrains.annotations.Nullable;
+import org.testcontainers.UnstableAPI;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Callback interface notified of the startup phases of containers, e.g. to find out where startup time goes.
+ * <p>
+ * Implementations are discovered with {@link java.util.ServiceLoader}, and are called on the thread starting
+ * the container, so they should return quickly.
+ */
+@UnstableAPI
+public interface ContainerLifecycleListener {
+    /**
+     * Callback invoked when a startup phase of a container completed, successfully or not.
+     */
+    void phaseCompleted(PhaseEvent event);
+
+    /**
+     * Startup phases of a container, in the order they are executed.
+     */
+    enum Phase {
+        /**
+         * Resolving the image name and pulling the image if needed
+         */
+        IMAGE_RESOLUTION,
+
+        /**
+         * Creating the container, or finding a container to reuse
+         */
+        CREATE,
+
+        /**
+         * Copying files to the created container
+         */
+        COPY_FILES,
+
+        /**
+         * Starting the container
+         */
+        START,
+
+        /**
+         * Waiting until the exposed ports are mapped
+         */
+        PORT_MAPPING,
+
+        /**
+         * Running the {@code containerIsStarting} hooks and the startup check strategy
+         */
+        STARTUP_CHECK,
+
+        /**
+         * Waiting until the wait strategy succeeds
+         */
+        WAIT_STRATEGY,
+
+        /**
+         * Running the {@code containerIsStarted} hooks
+         */
+        STARTED_HOOKS
+    }
+
+    @Value
+    class PhaseEvent {
+
+        Phase phase;
+
+        String imageName;
+
+        /**
+         * The ID of the container, or {@code null} if it is not created yet
+         */
+        @Nullable
+        String containerId;
+
+        Instant startedAt;
+
+        Duration duration;
+
+        /**
+         * Whether the phase failed, which fails the startup attempt
+         */
+        boolean failed;
+    }
+}
@@ -0,0 +1,89 @@
+package org.testcontainers.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.UnstableAPI;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Built-in {@link ContainerLifecycleListener} aggregating the duration of the startup phases per image, and logging
+ * the breakdown when the JVM exits. Enabled with the {@code startup.timings.report.enable} configuration property.
+ */
+@UnstableAPI
+@Slf4j
+public class StartupTimingsReport implements ContainerLifecycleListener {
+
+    // listeners are instantiated for each container, so the timings have to be shared
+    private static final Map<String, Map<Phase, PhaseTimings>> TIMINGS = new TreeMap<>();
+
+    private static final AtomicBoolean SHUTDOWN_HOOK_REGISTERED = new AtomicBoolean(false);
+
+    @Override
+    public void phaseCompleted(PhaseEvent event) {
+        if (!TestcontainersConfiguration.getInstance().isStartupTimingsReportEnabled()) {
+            return;
+        }
+
+        if (SHUTDOWN_HOOK_REGISTERED.compareAndSet(false, true)) {
+            Runtime
+                .getRuntime()
+                .addShutdownHook(new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, StartupTimingsReport::report));
+        }
+
+        synchronized (TIMINGS) {
+            TIMINGS
+                .computeIfAbsent(event.getImageName(), __ -> new EnumMap<>(Phase.class))
+                .computeIfAbsent(event.getPhase(), __ -> new PhaseTimings())
+                .add(event.getDuration());
+        }
+    }
+
+    static String format() {
+        StringBuilder report = new StringBuilder("Container startup timings:");
+        synchronized (TIMINGS) {
+            TIMINGS.forEach((imageName, phases) -> {
+                Duration total = phases
+                    .values()
+                    .stream()
+                    .map(it -> Duration.ofNanos(it.totalNanos))
+                    .reduce(Duration.ZERO, Duration::plus);
+                report.append(String.format("%n  %s (total %s)", imageName, total));
+                phases.forEach((phase, timings) -> {
+                    Duration phaseTotal = Duration.ofNanos(timings.totalNanos);
+                    report.append(
+                        String.format(
+                            "%n    %-16s %4d x, total %s, average %s",
+                            phase,
+                            timings.count,
+                            phaseTotal,
+                            phaseTotal.dividedBy(timings.count)
+                        )
+                    );
+                });
+            });
+        }
+        return report.toString();
+    }
+
+    private static void report() {
+        log.info(format());
+    }
+
+    private static final class PhaseTimings {
+
+        private long count;
+
+        private long totalNanos;
+
+        private void add(Duration duration) {
+            count++;
+            totalNanos += duration.toNanos();
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package org.testcontainers.utility;
+
+import lombok.EqualsAndHashCode;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.Adler32;
+
+/**
+ * Persistent cache of the checksums of file contents, so that unchanged files don't have to be read again to compute
+ * the hash of the files copied to a reusable container.
+ * <p>
+ * A cached checksum is only used if the size, modification time and file key (inode) of the file did not change since
+ * it was computed. Files modified less than {@link #RACY_MODIFICATION_MILLIS} before being hashed are not cached, as
+ * further modifications within the timestamp granularity of the file system would go unnoticed.
+ */
+@Slf4j
+final class FileChecksumCache {
+
+    private static final long RACY_MODIFICATION_MILLIS = 2000;
+
+    private final Path storePath;
+
+    private final Map<String, CachedChecksum> checksums = new ConcurrentHashMap<>();
+
+    FileChecksumCache(Path storePath) {
+        this.storePath = storePath;
+        load();
+    }
+
+    static FileChecksumCache getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Computes the checksums of the contents of the given regular files, reading only the files that changed since
+     * their checksums were cached. Files that have to be read are hashed in parallel.
+     *
+     * @param files regular files
+     * @return the checksum of the contents of each file
+     */
+    Map<Path, Long> checksums(Collection<Path> files) {
+        Map<Path, Long> result = new ConcurrentHashMap<>();
+        List<Path> changedFiles = new ArrayList<>();
+        for (Path file : files) {
+            CachedChecksum cached = checksums.get(key(file));
+            if (cached != null && cached.state.equals(FileState.of(file))) {
+                result.put(file, cached.checksum);
+            } else {
+                changedFiles.add(file);
+            }
+        }
+
+        if (!changedFiles.isEmpty()) {
+            long hashedAt = System.currentTimeMillis();
+            AtomicBoolean modified = new AtomicBoolean();
+            changedFiles
+                .parallelStream()
+                .forEach(file -> {
+                    // read the state first, so that changes while reading the contents invalidate the entry
+                    FileState state = FileState.of(file);
+                    long checksum = checksumContents(file);
+                    result.put(file, checksum);
+                    if (hashedAt - state.lastModifiedMillis >= RACY_MODIFICATION_MILLIS) {
+                        checksums.put(key(file), new CachedChecksum(state, checksum));
+                        modified.set(true);
+                    }
+                });
+            if (modified.get()) {
+                save();
+            }
+        }
+        return result;
+    }
+
+    @SneakyThrows(IOException.class)
+    private static long checksumContents(Path file) {
+        return FileUtils.checksum(file.toFile(), new Adler32()).getValue();
+    }
+
+    private static String key(Path file) {
+        return file.toAbsolutePath().normalize().toString();
+    }
+
+    private void load() {
+        if (!Files.isRegularFile(storePath)) {
+            return;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(storePath)) {
+            properties.load(inputStream);
+        } catch (IOException | IllegalArgumentException e) {
+            log.debug("Failed to load file checksums from {}, ignoring them", storePath, e);
+            return;
+        }
+
+        properties.forEach((path, value) -> {
+            CachedChecksum cached = CachedChecksum.parse((String) value);
+            // drop entries of deleted files, e.g. extracted classpath resources
+            if (cached != null && Files.exists(Paths.get((String) path))) {
+                checksums.putIfAbsent((String) path, cached);
+            }
+        });
+    }
+
+    private synchronized void save() {
+        // keep the checksums saved by other JVMs in the meantime
+        load();
+
+        Properties properties = new Properties();
+        checksums.forEach((path, cached) -> properties.setProperty(path, cached.toString()));
+
+        try {
+            Files.createDirectories(storePath.getParent());
+            // write to a separate file first, so that concurrent JVMs never read a partially written store
+            Path tempFile = Files.createTempFile(storePath.getParent(), storePath.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                    properties.store(outputStream, "Checksums of files copied to reusable containers");
+                }
+                try {
+                    Files.move(
+                        tempFile,
+                        storePath,
+                        StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING
+                    );
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempFile, storePath, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            log.debug("Failed to save file checksums to {}", storePath, e);
+        }
+    }
+
+    @EqualsAndHashCode
+    private static final class FileState {
+
+        private final long size;
+
+        private final long lastModifiedMillis;
+
+        private final String fileKey;
+
+        private FileState(long size, long lastModifiedMillis, String fileKey) {
+            this.size = size;
+            this.lastModifiedMillis = lastModifiedMillis;
+            this.fileKey = fileKey;
+        }
+
+        @SneakyThrows(IOException.class)
+        private static FileState of(Path file) {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            Object fileKey = attributes.fileKey();
+            return new FileState(
+                attributes.size(),
+                attributes.lastModifiedTime().to(TimeUnit.MILLISECONDS),
+                fileKey != null ? fileKey.toString() : ""
+            );
+        }
+    }
+
+    private static final class CachedChecksum {
+
+        private final FileState state;
+
+        private final long checksum;
+
+        private CachedChecksum(FileState state, long checksum) {
+            this.state = state;
+            this.checksum = checksum;
+        }
+
+        @Nullable
+        private static CachedChecksum parse(String value) {
+            // the file key is last, as it may contain spaces
+            String[] parts = value.split(" ", 4);
+            if (parts.length != 4) {
+                return null;
+            }
+            try {
+                return new CachedChecksum(
+                    new FileState(Long.parseLong(parts[1]), Long.parseLong(parts[2]), parts[3]),
+                    Long.parseLong(parts[0])
+                );
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return checksum + " " + state.size + " " + state.lastModifiedMillis + " " + state.fileKey;
+        }
+    }
+
+    private static final class InstanceHolder {
+
+        private static final FileChecksumCache INSTANCE = new FileChecksumCache(
+            Paths.get(System.getProperty("user.home"), ".testcontainers", "file-checksums.properties")
+        );
+    }
+}
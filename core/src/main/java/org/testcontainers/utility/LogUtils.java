@@ -57,21 +57,39 @@ public class LogUtils {
      * @param types        types of {@link OutputFrame} to receive
      * @return all previous output frames (stdout/stderr being separated by newline characters)
      */
-    @SneakyThrows(IOException.class)
     public String getOutput(DockerClient dockerClient, String containerId, OutputFrame.OutputType... types) {
         if (containerId == null) {
             return "";
         }
 
+        final ToStringConsumer consumer = new ToStringConsumer();
+        readOutput(dockerClient, containerId, consumer, types);
+        return consumer.toUtf8String();
+    }
+
+    /**
+     * Pass all previous log outputs of a container of the specified type(s) to a consumer, without following them,
+     * e.g. to only retain part of them.
+     *
+     * @param dockerClient a Docker client
+     * @param containerId  container ID to attach to
+     * @param consumer     a consumer of {@link OutputFrame}s
+     * @param types        types of {@link OutputFrame} to receive
+     */
+    @SneakyThrows(IOException.class)
+    public void readOutput(
+        DockerClient dockerClient,
+        String containerId,
+        Consumer<OutputFrame> consumer,
+        OutputFrame.OutputType... types
+    ) {
         if (types.length == 0) {
             types = new OutputFrame.OutputType[] { OutputFrame.OutputType.STDOUT, OutputFrame.OutputType.STDERR };
         }
 
-        final ToStringConsumer consumer = new ToStringConsumer();
         final WaitingConsumer wait = new WaitingConsumer();
         try (Closeable closeable = attachConsumer(dockerClient, containerId, consumer.andThen(wait), false, types)) {
             wait.waitUntilEnd();
-            return consumer.toUtf8String();
         }
     }
 
@@ -1,6 +1,7 @@
 package org.testcontainers.utility;
 
 import com.google.common.base.Charsets;
+import com.google.common.primitives.Longs;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -9,7 +10,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.apache.commons.compress.archivers.tar.TarConstants;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.SystemUtils;
 import org.jetbrains.annotations.NotNull;
 import org.testcontainers.DockerClientFactory;
@@ -28,9 +28,12 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.zip.Checksum;
 
@@ -214,8 +217,17 @@ public class MountableFile implements Transferable {
         return result;
     }
 
+    /**
+     * @return whether this is a classpath resource residing in a JAR, which is extracted to a temporary location that
+     * is deleted when the JVM exits
+     */
+    @UnstableAPI
+    public boolean isExtractedFromJar() {
+        return path.contains(".jar!");
+    }
+
     private String getResourcePath() {
-        if (path.contains(".jar!")) {
+        if (isExtractedFromJar()) {
             resourcePath = extractClassPathResourceToTempLocation(this.path);
         } else {
             resourcePath = unencodeResourceURIToFilePath(path);
@@ -405,18 +417,28 @@ public class MountableFile implements Transferable {
 
     @SneakyThrows(IOException.class)
     private void checksumFile(File file, Checksum checksum) {
-        Path path = file.toPath();
-        checksum.update(MountableFile.getUnixFileMode(path));
-        if (file.isDirectory()) {
-            try (Stream<Path> stream = Files.walk(path)) {
-                stream
-                    .filter(it -> it != path)
-                    .forEach(it -> {
-                        checksumFile(it.toFile(), checksum);
-                    });
+        Path root = file.toPath();
+        List<Path> paths;
+        try (Stream<Path> stream = Files.walk(root)) {
+            // sorted, as the walk order depends on the file system
+            paths = stream.sorted().collect(Collectors.toList());
+        }
+
+        // only the checksums of the contents are combined, so that unchanged files don't have to be read again
+        Map<Path, Long> contentChecksums = FileChecksumCache
+            .getInstance()
+            .checksums(paths.stream().filter(Files::isRegularFile).collect(Collectors.toList()));
+
+        for (Path path : paths) {
+            byte[] relativePath = root.relativize(path).toString().getBytes(Charsets.UTF_8);
+            checksum.update(relativePath, 0, relativePath.length);
+            checksum.update(MountableFile.getUnixFileMode(path));
+
+            Long contentChecksum = contentChecksums.get(path);
+            if (contentChecksum != null) {
+                byte[] contentChecksumBytes = Longs.toByteArray(contentChecksum);
+                checksum.update(contentChecksumBytes, 0, contentChecksumBytes.length);
             }
-        } else {
-            FileUtils.checksum(file, checksum);
         }
     }
 
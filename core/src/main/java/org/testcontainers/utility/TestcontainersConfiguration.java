@@ -22,6 +22,9 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
@@ -221,6 +224,132 @@ public class TestcontainersConfiguration {
         return Integer.parseInt(getEnvVarOrProperty("client.ping.timeout", "10"));
     }
 
+    @UnstableAPI
+    public boolean isStartupEventsEnabled() {
+        return Boolean.parseBoolean(getEnvVarOrProperty("startup.events.enable", "false"));
+    }
+
+    @UnstableAPI
+    public Duration getInspectCacheTtl() {
+        return Duration.ofMillis(Long.parseLong(getEnvVarOrProperty("inspect.cache.ttl", "0")));
+    }
+
+    @UnstableAPI
+    public Duration getReuseLockTimeout() {
+        return Duration.ofSeconds(Long.parseLong(getEnvVarOrProperty("reuse.lock.timeout", "300")));
+    }
+
+    @UnstableAPI
+    public boolean isStartupTimingsReportEnabled() {
+        return Boolean.parseBoolean(getEnvVarOrProperty("startup.timings.report.enable", "false"));
+    }
+
+    @UnstableAPI
+    public boolean isAsyncStopEnabled() {
+        return Boolean.parseBoolean(getEnvVarOrProperty("stop.async.enable", "false"));
+    }
+
+    @UnstableAPI
+    public int getAsyncStopConcurrency() {
+        return Integer.parseInt(getEnvVarOrProperty("stop.async.concurrency", "4"));
+    }
+
+    @UnstableAPI
+    public Duration getAsyncStopDrainTimeout() {
+        return Duration.ofSeconds(Long.parseLong(getEnvVarOrProperty("stop.async.drain.timeout", "30")));
+    }
+
+    @UnstableAPI
+    public boolean isSelectorPortProbeEnabled() {
+        return Boolean.parseBoolean(getEnvVarOrProperty("wait.port.probe.selector.enable", "true"));
+    }
+
+    /**
+     * @return the maximum number of Docker API calls per second of the checks of each container
+     */
+    @UnstableAPI
+    public double getTargetRateLimit() {
+        return Double.parseDouble(getEnvVarOrProperty("ratelimit.target.rate", "1"));
+    }
+
+    /**
+     * @return the maximum number of Docker API calls per second of the checks of all containers, or 0 if unlimited
+     */
+    @UnstableAPI
+    public double getGlobalRateLimit() {
+        return Double.parseDouble(getEnvVarOrProperty("ratelimit.global.rate", "0"));
+    }
+
+    /**
+     * @return the minimum size in bytes of the files that are bind mounted instead of being copied, or 0 if disabled
+     */
+    @UnstableAPI
+    public long getCopyBindThreshold() {
+        return Long.parseLong(getEnvVarOrProperty("copy.bind.threshold", "0"));
+    }
+
+    @UnstableAPI
+    public boolean isAsyncLogDispatchEnabled() {
+        return Boolean.parseBoolean(getEnvVarOrProperty("log.async.enable", "false"));
+    }
+
+    @UnstableAPI
+    public int getAsyncLogCapacity() {
+        return Integer.parseInt(getEnvVarOrProperty("log.async.capacity", "8192"));
+    }
+
+    @UnstableAPI
+    public String getAsyncLogOverflowPolicy() {
+        return getEnvVarOrProperty("log.async.overflow", "BLOCK");
+    }
+
+    @UnstableAPI
+    public int getLogTailBytes() {
+        return Integer.parseInt(getEnvVarOrProperty("log.tail.bytes", "65536"));
+    }
+
+    @UnstableAPI
+    public boolean isLogHubEnabled() {
+        return Boolean.parseBoolean(getEnvVarOrProperty("log.hub.enable", "false"));
+    }
+
+    @UnstableAPI
+    public long getLogHubHistoryBytes() {
+        return Long.parseLong(getEnvVarOrProperty("log.hub.history.bytes", "1048576"));
+    }
+
+    @UnstableAPI
+    public boolean isExecChannelEnabled() {
+        return Boolean.parseBoolean(getEnvVarOrProperty("exec.channel.enable", "false"));
+    }
+
+    @UnstableAPI
+    public Duration getExecChannelTimeout() {
+        return Duration.ofSeconds(Long.parseLong(getEnvVarOrProperty("exec.channel.timeout", "60")));
+    }
+
+    @UnstableAPI
+    public boolean isComposeConcurrentWaitEnabled() {
+        return Boolean.parseBoolean(getEnvVarOrProperty("compose.wait.concurrent.enable", "false"));
+    }
+
+    @UnstableAPI
+    public boolean isReadinessPredictorEnabled() {
+        return Boolean.parseBoolean(getEnvVarOrProperty("wait.predictor.enable", "false"));
+    }
+
+    /**
+     * @return the file in which the readiness predictor records the observed startup durations
+     */
+    @UnstableAPI
+    public Path getReadinessPredictorFile() {
+        String file = getEnvVarOrProperty("wait.predictor.file", null);
+        if (file == null) {
+            return Paths.get(System.getProperty("user.home"), ".testcontainers", "readiness.properties");
+        }
+        return Paths.get(file);
+    }
+
     @Nullable
     @Contract("_, !null, _ -> !null")
     private String getConfigurable(
@@ -0,0 +1,142 @@
+package org.testcontainers.utility;
+
+import org.jetbrains.annotations.Nullable;
+import org.rnorth.ducttape.ratelimits.RateLimiter;
+import org.testcontainers.UnstableAPI;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link RateLimiter} for the Docker API calls of a single target, e.g. the readiness checks of one container, so that
+ * independent containers don't queue behind each other.
+ * <p>
+ * Each limiter is a token bucket with the rate configured by {@code ratelimit.target.rate}. Calls of all limiters are
+ * additionally capped by a JVM-wide token bucket protecting the Docker daemon, if {@code ratelimit.global.rate} is set.
+ * The time spent waiting for tokens is exposed with {@link #getQueueWaitTime()} and {@link #getTotalQueueWaitTime()},
+ * to help sizing the rates.
+ */
+@UnstableAPI
+public final class TokenBucketRateLimiter extends RateLimiter {
+
+    private static final AtomicLong TOTAL_QUEUE_WAIT_NANOS = new AtomicLong(0);
+
+    private static final AtomicLong TOTAL_ACQUISITIONS = new AtomicLong(0);
+
+    private final TokenBucket bucket;
+
+    @Nullable
+    private final TokenBucket globalBucket;
+
+    private final AtomicLong queueWaitNanos = new AtomicLong(0);
+
+    TokenBucketRateLimiter(double permitsPerSecond, @Nullable TokenBucket globalBucket) {
+        this.bucket = new TokenBucket(permitsPerSecond);
+        this.globalBucket = globalBucket;
+    }
+
+    /**
+     * @return a new limiter for a target, with the configured per-target rate and global cap
+     */
+    public static TokenBucketRateLimiter forTarget() {
+        return new TokenBucketRateLimiter(
+            TestcontainersConfiguration.getInstance().getTargetRateLimit(),
+            GlobalBucketHolder.INSTANCE
+        );
+    }
+
+    /**
+     * @return the time calls of this limiter waited for a token
+     */
+    public Duration getQueueWaitTime() {
+        return Duration.ofNanos(queueWaitNanos.get());
+    }
+
+    /**
+     * @return the time calls of all limiters waited for a token
+     */
+    public static Duration getTotalQueueWaitTime() {
+        return Duration.ofNanos(TOTAL_QUEUE_WAIT_NANOS.get());
+    }
+
+    /**
+     * @return the number of calls of all limiters
+     */
+    public static long getTotalAcquisitions() {
+        return TOTAL_ACQUISITIONS.get();
+    }
+
+    /**
+     * Reserves a token of this limiter and then of the global one, and returns how long to sleep until both are
+     * available. Called by {@link RateLimiter} before each call.
+     */
+    @Override
+    protected long getWaitBeforeNextInvocation() {
+        long now = System.nanoTime();
+        long grantedAt = bucket.reserve(now);
+        if (globalBucket != null) {
+            grantedAt = globalBucket.reserve(grantedAt);
+        }
+        long waitNanos = Math.max(0, grantedAt - now);
+
+        queueWaitNanos.addAndGet(waitNanos);
+        TOTAL_QUEUE_WAIT_NANOS.addAndGet(waitNanos);
+        TOTAL_ACQUISITIONS.incrementAndGet();
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos);
+    }
+
+    /**
+     * Token bucket holding up to one second worth of tokens, so that bursts after idle periods are allowed.
+     * Reservations may go into debt, which makes later callers wait in order.
+     */
+    static final class TokenBucket {
+
+        private final double intervalNanos;
+
+        private final double maxStoredTokens;
+
+        private double storedTokens;
+
+        private long nextFreeNanos = System.nanoTime();
+
+        TokenBucket(double permitsPerSecond) {
+            if (permitsPerSecond <= 0) {
+                throw new IllegalArgumentException("the rate must be positive");
+            }
+            this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+            this.maxStoredTokens = Math.max(1, permitsPerSecond);
+            this.storedTokens = maxStoredTokens;
+        }
+
+        /**
+         * Reserves a token for a call that can't happen before the given time.
+         *
+         * @return the time from which the call may happen
+         */
+        synchronized long reserve(long earliestNanos) {
+            if (earliestNanos > nextFreeNanos) {
+                storedTokens = Math.min(maxStoredTokens, storedTokens + (earliestNanos - nextFreeNanos) / intervalNanos);
+                nextFreeNanos = earliestNanos;
+            }
+
+            long grantedAt = nextFreeNanos;
+            double fromStored = Math.min(1, storedTokens);
+            storedTokens -= fromStored;
+            nextFreeNanos += (long) ((1 - fromStored) * intervalNanos);
+            return grantedAt;
+        }
+    }
+
+    private static final class GlobalBucketHolder {
+
+        @Nullable
+        private static final TokenBucket INSTANCE = create();
+
+        @Nullable
+        private static TokenBucket create() {
+            double rate = TestcontainersConfiguration.getInstance().getGlobalRateLimit();
+            return rate > 0 ? new TokenBucket(rate) : null;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.testcontainers.containers;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.EventsCmd;
+import com.github.dockerjava.api.model.Event;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class ContainerEventSubscriptionTest {
+
+    private final DockerClient client = Mockito.mock(DockerClient.class);
+
+    private final EventsCmd eventsCmd = Mockito.mock(EventsCmd.class, Mockito.RETURNS_SELF);
+
+    @Test
+    public void shouldReceiveSubscribedEvent() throws Exception {
+        emitOnSubscription(new Event("start", "container-id", "image", 0L));
+
+        try (ContainerEventSubscription subscription = subscribe()) {
+            assertThat(subscription.isActive()).isTrue();
+            assertThat(subscription.awaitEvent("start", Duration.ofSeconds(1))).isTrue();
+        }
+        Mockito.verify(eventsCmd).withContainerFilter("container-id");
+        Mockito.verify(eventsCmd).withEventFilter("start");
+    }
+
+    @Test
+    public void shouldIgnoreEventsOfOtherContainers() throws Exception {
+        emitOnSubscription(new Event("start", "other-container-id", "image", 0L));
+
+        try (ContainerEventSubscription subscription = subscribe()) {
+            assertThat(subscription.awaitEvent("start", Duration.ofMillis(100))).isFalse();
+        }
+    }
+
+    @Test
+    public void shouldBeInactiveIfEventsAreNotSupported() throws Exception {
+        when(client.eventsCmd()).thenThrow(new UnsupportedOperationException());
+
+        try (ContainerEventSubscription subscription = subscribe()) {
+            assertThat(subscription.isActive()).isFalse();
+            assertThat(subscription.awaitEvent("start", Duration.ofMillis(100))).isFalse();
+        }
+    }
+
+    private ContainerEventSubscription subscribe() {
+        return ContainerEventSubscription.subscribe(client, "container-id", "start");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void emitOnSubscription(Event event) {
+        when(client.eventsCmd()).thenReturn(eventsCmd);
+        when(eventsCmd.exec(any()))
+            .then(invocation -> {
+                ResultCallback<Event> callback = invocation.getArgument(0);
+                callback.onStart(() -> {});
+                callback.onNext(event);
+                return callback;
+            });
+    }
+}
@@ -0,0 +1,108 @@
+package org.testcontainers.containers;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.EventsCmd;
+import com.github.dockerjava.api.command.InspectContainerCmd;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.core.command.InspectContainerCmdImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class ContainerInfoCacheTest {
+
+    private final DockerClient client = Mockito.mock(DockerClient.class);
+
+    private final EventsCmd eventsCmd = Mockito.mock(EventsCmd.class, Mockito.RETURNS_SELF);
+
+    private final AtomicInteger inspectCalls = new AtomicInteger();
+
+    private final AtomicReference<ResultCallback<Event>> eventsCallback = new AtomicReference<>();
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        when(client.inspectContainerCmd(any()))
+            .then(invocation -> {
+                InspectContainerCmd.Exec exec = command -> {
+                    inspectCalls.incrementAndGet();
+                    return Mockito.mock(InspectContainerResponse.class);
+                };
+                return new InspectContainerCmdImpl(exec, invocation.getArgument(0));
+            });
+
+        when(client.eventsCmd()).thenReturn(eventsCmd);
+        when(eventsCmd.exec(any()))
+            .then(invocation -> {
+                ResultCallback<Event> callback = invocation.getArgument(0);
+                callback.onStart(() -> {});
+                eventsCallback.set(callback);
+                return callback;
+            });
+    }
+
+    @Test
+    public void shouldShareResponseWithinTtl() {
+        try (ContainerInfoCache cache = new ContainerInfoCache(client, "container-id", Duration.ofMinutes(1))) {
+            InspectContainerResponse response = cache.get();
+
+            assertThat(cache.get()).isSameAs(response);
+            assertThat(inspectCalls).hasValue(1);
+        }
+    }
+
+    @Test
+    public void shouldInspectAgainAfterTtl() throws Exception {
+        try (ContainerInfoCache cache = new ContainerInfoCache(client, "container-id", Duration.ofMillis(10))) {
+            cache.get();
+            Thread.sleep(20);
+            cache.get();
+
+            assertThat(inspectCalls).hasValue(2);
+        }
+    }
+
+    @Test
+    public void shouldInspectAgainAfterStateChangingEvent() {
+        try (ContainerInfoCache cache = new ContainerInfoCache(client, "container-id", Duration.ofMinutes(1))) {
+            cache.get();
+            eventsCallback.get().onNext(new Event("health_status: unhealthy", "container-id", "image", 0L));
+            cache.get();
+
+            assertThat(inspectCalls).hasValue(2);
+        }
+    }
+
+    @Test
+    public void shouldNotCacheWithoutEvents() {
+        when(eventsCmd.exec(any())).thenThrow(new RuntimeException("events are not supported"));
+
+        try (ContainerInfoCache cache = new ContainerInfoCache(client, "container-id", Duration.ofMinutes(1))) {
+            cache.get();
+            cache.get();
+
+            assertThat(inspectCalls).hasValue(2);
+        }
+    }
+
+    @Test
+    public void shouldStopCachingWhenTheEventsEnd() {
+        try (ContainerInfoCache cache = new ContainerInfoCache(client, "container-id", Duration.ofMinutes(1))) {
+            cache.get();
+            eventsCallback.get().onError(new RuntimeException("connection lost"));
+            cache.get();
+
+            assertThat(inspectCalls).hasValue(2);
+        }
+    }
+}
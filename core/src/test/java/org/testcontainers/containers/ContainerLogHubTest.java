@@ -0,0 +1,186 @@
+package org.testcontainers.containers;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.LogContainerCmd;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+import com.github.dockerjava.core.command.LogContainerCmdImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.testcontainers.containers.output.FrameConsumerResultCallback;
+import org.testcontainers.containers.output.OutputFrame;
+import org.testcontainers.containers.output.ToStringConsumer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class ContainerLogHubTest {
+
+    private final DockerClient client = Mockito.mock(DockerClient.class);
+
+    private final List<ResultCallback<Frame>> streams = new CopyOnWriteArrayList<>();
+
+    @Before
+    public void setUp() {
+        when(client.logContainerCmd(any()))
+            .then(invocation -> {
+                LogContainerCmd.Exec exec = (command, callback) -> {
+                    assertThat(command.hasFollowStreamEnabled()).isTrue();
+                    assertThat(command.getSince()).isZero();
+                    streams.add(callback);
+                    return null;
+                };
+                return new LogContainerCmdImpl(exec, invocation.getArgument(0));
+            });
+    }
+
+    @After
+    public void tearDown() {
+        ContainerLogHub.closeFor("container-id");
+    }
+
+    @Test
+    public void shouldAttachOnceForAllSubscribers() {
+        List<String> first = new CopyOnWriteArrayList<>();
+        List<String> second = new CopyOnWriteArrayList<>();
+
+        ContainerLogHub.of(client, "container-id").subscribe(collecting(first));
+        streams.get(0).onNext(new Frame(StreamType.STDOUT, "started\n".getBytes(StandardCharsets.UTF_8)));
+        ContainerLogHub.of(client, "container-id").subscribe(collecting(second));
+        streams.get(0).onNext(new Frame(StreamType.STDERR, "ready\n".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(streams).hasSize(1);
+        assertThat(first).containsExactly("started", "ready");
+        assertThat(second).as("The late subscriber receives the history first").containsExactly("started", "ready");
+    }
+
+    @Test
+    public void shouldAttachAgainWhenTheStreamEnded() {
+        List<String> lines = new CopyOnWriteArrayList<>();
+        ContainerLogHub hub = ContainerLogHub.of(client, "container-id");
+        hub.subscribe(collecting(lines));
+
+        streams.get(0).onNext(new Frame(StreamType.STDOUT, "partial".getBytes(StandardCharsets.UTF_8)));
+        streams.get(0).onComplete();
+
+        assertThat(lines).containsExactly("partial", "END");
+        assertThat(ContainerLogHub.of(client, "container-id")).isNotSameAs(hub);
+        assertThat(streams).hasSize(2);
+    }
+
+    @Test
+    public void shouldEndOnceAndReplayTheEndToLateSubscribers() {
+        ContainerLogHub hub = new ContainerLogHub("id", 1024);
+        List<String> early = new CopyOnWriteArrayList<>();
+        List<String> late = new CopyOnWriteArrayList<>();
+
+        hub.subscribe(collecting(early));
+        hub.accept(frame(OutputFrame.OutputType.STDOUT, "line"));
+        hub.accept(OutputFrame.END);
+        hub.accept(OutputFrame.END);
+        hub.subscribe(collecting(late));
+
+        assertThat(early).containsExactly("line", "END");
+        assertThat(late).containsExactly("line", "END");
+    }
+
+    @Test
+    public void shouldDiscardTheOldestFramesOfTheHistory() {
+        ContainerLogHub hub = new ContainerLogHub("id", 10);
+        List<String> lines = new CopyOnWriteArrayList<>();
+
+        hub.accept(frame(OutputFrame.OutputType.STDOUT, "first"));
+        assertThat(hub.isHistoryTruncated()).isFalse();
+        hub.accept(frame(OutputFrame.OutputType.STDOUT, "second"));
+        hub.accept(frame(OutputFrame.OutputType.STDOUT, "third"));
+        hub.subscribe(collecting(lines));
+
+        assertThat(lines).containsExactly("third");
+        assertThat(hub.isHistoryTruncated()).isTrue();
+    }
+
+    @Test
+    public void shouldNotSubscribeFromStartWithoutHistory() {
+        ContainerLogHub hub = new ContainerLogHub("id", 0);
+
+        assertThat(hub.subscribeFromStart(collecting(new CopyOnWriteArrayList<>()))).isTrue();
+        hub.accept(frame(OutputFrame.OutputType.STDOUT, "first"));
+
+        assertThat(hub.isHistoryTruncated()).isTrue();
+        assertThat(hub.subscribeFromStart(collecting(new CopyOnWriteArrayList<>()))).isFalse();
+    }
+
+    @Test
+    public void shouldOnlySendTheSelectedTypes() {
+        ContainerLogHub hub = new ContainerLogHub("id", 1024);
+        List<String> lines = new CopyOnWriteArrayList<>();
+
+        hub.accept(frame(OutputFrame.OutputType.STDOUT, "out"));
+        hub.subscribe(collecting(lines), OutputFrame.OutputType.STDERR);
+        hub.accept(frame(OutputFrame.OutputType.STDERR, "err"));
+        hub.accept(frame(OutputFrame.OutputType.STDOUT, "out"));
+        hub.accept(OutputFrame.END);
+
+        assertThat(lines).containsExactly("err", "END");
+    }
+
+    @Test
+    public void shouldNotSendFramesAfterUnsubscribing() {
+        ContainerLogHub hub = new ContainerLogHub("id", 1024);
+        List<String> lines = new CopyOnWriteArrayList<>();
+        Consumer<OutputFrame> consumer = collecting(lines);
+
+        hub.subscribe(consumer);
+        hub.accept(frame(OutputFrame.OutputType.STDOUT, "before"));
+        hub.unsubscribe(consumer);
+        hub.accept(frame(OutputFrame.OutputType.STDOUT, "after"));
+
+        assertThat(lines).containsExactly("before");
+    }
+
+    @Test
+    public void shouldOnlySubscribeFromStartWithCompleteHistory() {
+        ContainerLogHub hub = new ContainerLogHub("id", 10);
+        List<String> lines = new CopyOnWriteArrayList<>();
+
+        hub.accept(frame(OutputFrame.OutputType.STDOUT, "first"));
+        assertThat(hub.subscribeFromStart(collecting(lines))).isTrue();
+        hub.accept(frame(OutputFrame.OutputType.STDOUT, "second"));
+
+        assertThat(hub.subscribeFromStart(collecting(new CopyOnWriteArrayList<>()))).isFalse();
+        assertThat(lines).containsExactly("first", "second");
+    }
+
+    @Test
+    public void shouldOnlyRemoveColorCodesForSubscribersNotKeepingThem() {
+        ContainerLogHub hub = new ContainerLogHub("id", 1024);
+        ToStringConsumer stripped = new ToStringConsumer();
+        ToStringConsumer colored = new ToStringConsumer().withRemoveAnsiCodes(false);
+
+        FrameConsumerResultCallback callback = new FrameConsumerResultCallback();
+        callback.addConsumer(OutputFrame.OutputType.STDOUT, hub);
+        callback.onNext(new Frame(StreamType.STDOUT, "\u001B[1;31mred\u001B[0m\n".getBytes(StandardCharsets.UTF_8)));
+        hub.subscribe(stripped);
+        hub.subscribe(colored);
+
+        assertThat(stripped.toUtf8String()).isEqualTo("red\n");
+        assertThat(colored.toUtf8String()).isEqualTo("\u001B[1;31mred\u001B[0m\n");
+    }
+
+    private static Consumer<OutputFrame> collecting(List<String> lines) {
+        return frame -> lines.add(frame == OutputFrame.END ? "END" : frame.getUtf8StringWithoutLineEnding());
+    }
+
+    private static OutputFrame frame(OutputFrame.OutputType type, String line) {
+        return new OutputFrame(type, (line + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+}
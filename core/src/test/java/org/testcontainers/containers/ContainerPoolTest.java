@@ -0,0 +1,96 @@
+package org.testcontainers.containers;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.InspectContainerCmd;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.core.command.InspectContainerCmdImpl;
+import org.junit.Test;
+import org.mockito.Answers;
+import org.mockito.Mockito;
+import org.testcontainers.TestImages;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class ContainerPoolTest {
+
+    private final DockerClient client = Mockito.mock(DockerClient.class);
+
+    private final AtomicBoolean running = new AtomicBoolean(true);
+
+    @Test
+    public void shouldHandOutReleasedContainer() {
+        mockInspect();
+        GenericContainer<?> container = startedContainer();
+        ContainerPool<GenericContainer<?>> pool = new ContainerPool<>(1);
+
+        assertThat(pool.acquire("hash")).isEmpty();
+        assertThat(pool.release("hash", container)).isTrue();
+
+        assertThat(pool.acquire("hash")).contains(container.getContainerId());
+        assertThat(pool.acquire("hash")).isEmpty();
+        assertThat(pool.getHitCount()).isEqualTo(1);
+        assertThat(pool.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldNotHandOutContainersThatAreNotRunning() {
+        mockInspect();
+        ContainerPool<GenericContainer<?>> pool = new ContainerPool<>(1);
+        pool.release("hash", startedContainer());
+
+        running.set(false);
+
+        assertThat(pool.acquire("hash")).isEmpty();
+    }
+
+    @Test
+    public void shouldOnlyKeepPoolSizeIdleContainers() {
+        ContainerPool<GenericContainer<?>> pool = new ContainerPool<>(1);
+
+        assertThat(pool.release("hash", startedContainer())).isTrue();
+        assertThat(pool.release("hash", startedContainer())).isFalse();
+        assertThat(pool.release("other-hash", startedContainer())).isTrue();
+    }
+
+    @Test
+    public void shouldNotReturnContainerIfResetFails() {
+        ContainerPool<GenericContainer<?>> pool = new ContainerPool<GenericContainer<?>>(1)
+            .withResetHook(container -> {
+                throw new IllegalStateException("can't reset");
+            });
+
+        assertThat(pool.release("hash", startedContainer())).isFalse();
+    }
+
+    private GenericContainer<?> startedContainer() {
+        GenericContainer<?> container = new GenericContainer(TestImages.TINY_IMAGE) {
+            @Override
+            public String getDockerImageName() {
+                return "tiny";
+            }
+        };
+        container.dockerClient = client;
+        container.containerId = UUID.randomUUID().toString();
+        return container;
+    }
+
+    private void mockInspect() {
+        when(client.inspectContainerCmd(any()))
+            .then(invocation -> {
+                InspectContainerCmd.Exec exec = command -> {
+                    InspectContainerResponse response = Mockito.mock(
+                        InspectContainerResponse.class,
+                        Answers.RETURNS_DEEP_STUBS
+                    );
+                    when(response.getState().getRunning()).thenReturn(running.get());
+                    return response;
+                };
+                return new InspectContainerCmdImpl(exec, invocation.getArgument(0));
+            });
+    }
+}
@@ -0,0 +1,93 @@
+package org.testcontainers.containers;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.KillContainerCmd;
+import com.github.dockerjava.api.command.RemoveContainerCmd;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.core.command.KillContainerCmdImpl;
+import com.github.dockerjava.core.command.RemoveContainerCmdImpl;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class ContainerRemovalQueueTest {
+
+    private final DockerClient client = Mockito.mock(DockerClient.class);
+
+    private final List<String> killed = new CopyOnWriteArrayList<>();
+
+    private final List<RemoveContainerCmd> removed = new CopyOnWriteArrayList<>();
+
+    private final ContainerRemovalQueue queue = new ContainerRemovalQueue(2);
+
+    @Test
+    public void shouldKillAndRemoveContainersWithVolumes() throws Exception {
+        mockKill(false);
+        mockRemove();
+
+        for (int i = 0; i < 10; i++) {
+            queue.killAndRemove(client, "container-" + i, "image");
+        }
+
+        assertThat(killed).hasSize(10);
+        assertThat(queue.drain(Duration.ofSeconds(10))).isTrue();
+        assertThat(queue.getPendingCount()).isZero();
+        assertThat(removed).hasSize(10);
+        assertThat(removed).allMatch(RemoveContainerCmd::hasRemoveVolumesEnabled);
+        assertThat(removed).allMatch(RemoveContainerCmd::hasForceEnabled);
+    }
+
+    @Test
+    public void shouldNotRemoveContainersThatNoLongerExist() throws Exception {
+        mockKill(true);
+
+        queue.killAndRemove(client, "container-id", "image");
+
+        assertThat(queue.drain(Duration.ofSeconds(10))).isTrue();
+        Mockito.verify(client, Mockito.never()).removeContainerCmd(any());
+    }
+
+    @Test
+    public void shouldRemoveContainersOnTheCallingThreadOnceDrained() throws Exception {
+        mockKill(false);
+        mockRemove();
+
+        assertThat(queue.drain(Duration.ofSeconds(10))).isTrue();
+        queue.killAndRemove(client, "container-id", "image");
+
+        assertThat(removed).hasSize(1);
+        assertThat(queue.getPendingCount()).isZero();
+    }
+
+    private void mockKill(boolean notFound) {
+        when(client.killContainerCmd(any()))
+            .then(invocation -> {
+                KillContainerCmd.Exec exec = command -> {
+                    if (notFound) {
+                        throw new NotFoundException("No such container");
+                    }
+                    killed.add(command.getContainerId());
+                    return null;
+                };
+                return new KillContainerCmdImpl(exec, invocation.getArgument(0));
+            });
+    }
+
+    private void mockRemove() {
+        when(client.removeContainerCmd(any()))
+            .then(invocation -> {
+                RemoveContainerCmd.Exec exec = command -> {
+                    removed.add(command);
+                    return null;
+                };
+                return new RemoveContainerCmdImpl(exec, invocation.getArgument(0));
+            });
+    }
+}
@@ -0,0 +1,163 @@
+package org.testcontainers.containers;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.CopyArchiveToContainerCmd;
+import com.github.dockerjava.api.model.AccessMode;
+import com.github.dockerjava.api.model.Bind;
+import com.github.dockerjava.core.command.CopyArchiveToContainerCmdImpl;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.io.IOUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.utility.MountableFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class CopyToContainerBatchTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final DockerClient client = Mockito.mock(DockerClient.class);
+
+    @Test
+    public void shouldCopyAllEntriesWithSingleInvocation() throws Exception {
+        Map<String, String> received = new LinkedHashMap<>();
+        when(client.copyArchiveToContainerCmd(any()))
+            .then(invocation -> {
+                CopyArchiveToContainerCmd.Exec exec = command -> {
+                    readArchive(command, received);
+                    return null;
+                };
+                return new CopyArchiveToContainerCmdImpl(exec, invocation.getArgument(0));
+            });
+
+        new CopyToContainerBatch()
+            .add(MountableFile.forClasspathResource("test_copy_to_container.txt"), "/tmp/")
+            .add(Transferable.of("foo"), "/tmp/foo.txt")
+            .add(Transferable.of("bar"), "/tmp/bar.txt")
+            .transferTo(client, "container-id");
+
+        Mockito.verify(client, Mockito.times(1)).copyArchiveToContainerCmd("container-id");
+        assertThat(received)
+            .containsOnlyKeys("tmp/test_copy_to_container.txt", "tmp/foo.txt", "tmp/bar.txt")
+            .containsEntry("tmp/foo.txt", "foo")
+            .containsEntry("tmp/bar.txt", "bar");
+    }
+
+    @Test
+    public void shouldNotCallDockerIfEmpty() throws Exception {
+        new CopyToContainerBatch().transferTo(client, "container-id");
+
+        Mockito.verifyNoInteractions(client);
+    }
+
+    @Test
+    public void shouldReportArchiveFailure() {
+        when(client.copyArchiveToContainerCmd(any()))
+            .then(invocation -> {
+                CopyArchiveToContainerCmd.Exec exec = command -> {
+                    readArchive(command, new LinkedHashMap<>());
+                    return null;
+                };
+                return new CopyArchiveToContainerCmdImpl(exec, invocation.getArgument(0));
+            });
+
+        Transferable failing = new Transferable() {
+            @Override
+            public long getSize() {
+                return 1;
+            }
+
+            @Override
+            public byte[] getBytes() {
+                throw new IllegalStateException("unreadable");
+            }
+        };
+
+        CopyToContainerBatch batch = new CopyToContainerBatch().add(failing, "/tmp/foo");
+
+        assertThatThrownBy(() -> batch.transferTo(client, "container-id")).hasMessageContaining("unreadable");
+    }
+
+    @Test
+    public void checksumShouldNotDependOnOrder() {
+        long checksum1 = new CopyToContainerBatch()
+            .add(Transferable.of("foo"), "/foo")
+            .add(Transferable.of("bar"), "/bar")
+            .checksum()
+            .getValue();
+
+        long checksum2 = new CopyToContainerBatch()
+            .add(Transferable.of("bar"), "/bar")
+            .add(Transferable.of("foo"), "/foo")
+            .checksum()
+            .getValue();
+
+        assertThat(checksum1).isEqualTo(checksum2);
+    }
+
+    @Test
+    public void shouldRemoveLargeFilesAsBinds() throws Exception {
+        File large = temporaryFolder.newFile("large.bin");
+        Files.write(large.toPath(), new byte[1024]);
+        File small = temporaryFolder.newFile("small.bin");
+        Files.write(small.toPath(), new byte[16]);
+
+        CopyToContainerBatch batch = new CopyToContainerBatch()
+            .add(MountableFile.forHostPath(temporaryFolder.newFolder("config").toPath()), "/config")
+            .add(MountableFile.forHostPath(large.toPath()), "/config/large.bin")
+            .add(MountableFile.forHostPath(large.toPath()), "/large.bin")
+            .add(MountableFile.forHostPath(small.toPath()), "/small.bin")
+            .add(MountableFile.forHostPath(large.toPath(), 0100777), "/executable.bin")
+            .add(MountableFile.forHostPath(large.toPath()), "/overwritten/large.bin")
+            .add(Transferable.of("foo"), "/overwritten");
+
+        List<Bind> binds = batch.removeBindMountableFiles(1024, true);
+
+        assertThat(binds).hasSize(1);
+        assertThat(binds.get(0).getPath()).isEqualTo(large.getAbsolutePath());
+        assertThat(binds.get(0).getVolume().getPath()).isEqualTo("/large.bin");
+        assertThat(binds.get(0).getAccessMode()).isEqualTo(AccessMode.ro);
+        assertThat(batch.removeBindMountableFiles(1024, true)).isEmpty();
+    }
+
+    @Test
+    public void shouldKeepFilesExtractedFromJarIfRequested() {
+        MountableFile jarResource = MountableFile.forClasspathResource("META-INF/dummy_unique_name.txt");
+        assertThat(jarResource.isExtractedFromJar()).isTrue();
+
+        CopyToContainerBatch batch = new CopyToContainerBatch().add(jarResource, "/dummy_unique_name.txt");
+
+        assertThat(batch.removeBindMountableFiles(1, false)).isEmpty();
+        assertThat(batch.removeBindMountableFiles(1, true)).hasSize(1);
+        assertThat(batch.isEmpty()).isTrue();
+    }
+
+    private static void readArchive(CopyArchiveToContainerCmd command, Map<String, String> received) {
+        try (TarArchiveInputStream tar = new TarArchiveInputStream(command.getTarInputStream())) {
+            TarArchiveEntry entry;
+            while ((entry = tar.getNextTarEntry()) != null) {
+                received.put(entry.getName(), IOUtils.toString(tar, StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package org.testcontainers.containers;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.ExecCreateCmd;
+import com.github.dockerjava.api.command.ExecCreateCmdResponse;
+import com.github.dockerjava.api.command.ExecStartCmd;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+import com.github.dockerjava.core.command.ExecCreateCmdImpl;
+import com.github.dockerjava.core.command.ExecStartCmdImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class ExecChannelTest {
+
+    private static final Pattern MARKER = Pattern.compile("printf '%s\\\\n' (\\S+) >&2");
+
+    private final DockerClient client = Mockito.mock(DockerClient.class);
+
+    private final InspectContainerResponse containerInfo = Mockito.mock(InspectContainerResponse.class);
+
+    private final AtomicInteger execCreations = new AtomicInteger();
+
+    private final List<String> scripts = new CopyOnWriteArrayList<>();
+
+    private final AtomicReference<ResultCallback<Frame>> shell = new AtomicReference<>();
+
+    private final AtomicBoolean hanging = new AtomicBoolean();
+
+    @Before
+    public void setUp() {
+        when(containerInfo.getId()).thenReturn("container-id");
+        when(containerInfo.getName()).thenReturn("/container");
+
+        when(client.execCreateCmd(any()))
+            .then(invocation -> {
+                ExecCreateCmd.Exec exec = command -> {
+                    assertThat(command.getCmd()).containsExactly("/bin/sh");
+                    assertThat(command.hasAttachStdinEnabled()).isTrue();
+                    execCreations.incrementAndGet();
+                    ExecCreateCmdResponse response = Mockito.mock(ExecCreateCmdResponse.class);
+                    when(response.getId()).thenReturn("exec-id");
+                    return response;
+                };
+                return new ExecCreateCmdImpl(exec, invocation.getArgument(0));
+            });
+        when(client.execStartCmd(any()))
+            .then(invocation -> {
+                ExecStartCmd.Exec exec = (command, callback) -> {
+                    shell.set(callback);
+                    Thread thread = new Thread(() -> runFakeShell(command, callback));
+                    thread.setDaemon(true);
+                    thread.start();
+                    return null;
+                };
+                return new ExecStartCmdImpl(exec, invocation.getArgument(0));
+            });
+    }
+
+    @After
+    public void tearDown() {
+        ExecChannel.closeFor("container-id");
+    }
+
+    @Test
+    public void shouldRunCommandsInOneShell() throws Exception {
+        ExecChannel channel = ExecChannel.of(client, containerInfo);
+
+        Container.ExecResult first = channel.exec("echo", "it's");
+        Container.ExecResult second = ExecChannel.of(client, containerInfo).exec("false");
+
+        assertThat(first.getExitCode()).isEqualTo(3);
+        assertThat(first.getStdout()).isEqualTo("output of 1\npartial");
+        assertThat(first.getStderr()).isEqualTo("error of 1\n");
+        assertThat(second.getStdout()).isEqualTo("output of 2\npartial");
+        assertThat(execCreations).as("The shell is only created once").hasValue(1);
+        assertThat(scripts.get(0)).startsWith("'echo' 'it'\\''s' </dev/null;");
+    }
+
+    @Test
+    public void shouldCloseWhenTheShellEnds() throws Exception {
+        ExecChannel channel = ExecChannel.of(client, containerInfo);
+        channel.exec("true");
+
+        shell.get().onComplete();
+
+        assertThat(catchThrowable(() -> channel.exec("true"))).isInstanceOf(IOException.class);
+        assertThat(ExecChannel.of(client, containerInfo)).as("A new channel replaces the ended one").isNotSameAs(channel);
+    }
+
+    @Test
+    public void shouldCloseButStayRegisteredWhenACommandTimesOut() throws Exception {
+        ExecChannel channel = ExecChannel.of(client, containerInfo, Duration.ofMillis(100));
+        hanging.set(true);
+
+        assertThat(catchThrowable(() -> channel.exec("sleep", "infinity")))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("didn't complete within");
+        assertThat(channel.isTimedOut()).isTrue();
+        assertThat(ExecChannel.of(client, containerInfo))
+            .as("The timed out channel tells the following calls to run commands individually")
+            .isSameAs(channel);
+    }
+
+    private void runFakeShell(ExecStartCmd command, ResultCallback<Frame> callback) {
+        try (
+            BufferedReader reader = new BufferedReader(
+                new InputStreamReader(command.getStdin(), StandardCharsets.UTF_8)
+            )
+        ) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                scripts.add(line);
+                if (hanging.get()) {
+                    continue;
+                }
+                Matcher matcher = MARKER.matcher(line);
+                assertThat(matcher.find()).isTrue();
+                String marker = matcher.group(1);
+
+                int count = scripts.size();
+                callback.onNext(frame(StreamType.STDOUT, "output of " + count + "\npar"));
+                callback.onNext(frame(StreamType.STDERR, "error of " + count + "\n" + marker + "\n"));
+                callback.onNext(frame(StreamType.STDOUT, "tial" + marker + " 3\n"));
+            }
+        } catch (IOException ignored) {}
+    }
+
+    private static Frame frame(StreamType streamType, String payload) {
+        return new Frame(streamType, payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,146 @@
+package org.testcontainers.containers;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.ExecStartCmd;
+import com.github.dockerjava.api.command.InspectExecCmd;
+import com.github.dockerjava.api.command.InspectExecResponse;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+import com.github.dockerjava.core.command.ExecStartCmdImpl;
+import com.github.dockerjava.core.command.InspectExecCmdImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class ExecProcessTest {
+
+    private static final int FRAME_SIZE = ExecProcess.BUFFER_SIZE / 4;
+
+    private final DockerClient client = Mockito.mock(DockerClient.class);
+
+    private final AtomicInteger sentFrames = new AtomicInteger();
+
+    private BiConsumer<InputStream, ResultCallback<Frame>> command;
+
+    @Before
+    public void setUp() {
+        when(client.execStartCmd(any()))
+            .then(invocation -> {
+                ExecStartCmd.Exec exec = (cmd, callback) -> {
+                    Thread thread = new Thread(() -> command.accept(cmd.getStdin(), callback));
+                    thread.setDaemon(true);
+                    thread.start();
+                    return null;
+                };
+                return new ExecStartCmdImpl(exec, invocation.getArgument(0));
+            });
+        when(client.inspectExecCmd(any()))
+            .then(invocation -> {
+                InspectExecCmd.Exec exec = cmd -> {
+                    InspectExecResponse response = Mockito.mock(InspectExecResponse.class);
+                    when(response.getExitCodeLong()).thenReturn(3L);
+                    return response;
+                };
+                return new InspectExecCmdImpl(exec, invocation.getArgument(0));
+            });
+    }
+
+    @Test
+    public void shouldStreamInputAndOutput() throws Exception {
+        command =
+            (stdin, callback) -> {
+                byte[] input = readFully(stdin);
+                callback.onNext(frame(StreamType.STDOUT, "read: ".getBytes(StandardCharsets.UTF_8)));
+                callback.onNext(frame(StreamType.STDOUT, input));
+                callback.onNext(frame(StreamType.STDERR, "done".getBytes(StandardCharsets.UTF_8)));
+                callback.onComplete();
+            };
+        ExecProcess process = start();
+
+        try (OutputStream stdin = process.getStdin()) {
+            stdin.write("hello".getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertThat(new String(readFully(process.getStdout()), StandardCharsets.UTF_8)).isEqualTo("read: hello");
+        assertThat(new String(readFully(process.getStderr()), StandardCharsets.UTF_8)).isEqualTo("done");
+        assertThat(process.getExitCode().get(10, TimeUnit.SECONDS)).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldWaitForTheOutputToBeRead() throws Exception {
+        command =
+            (stdin, callback) -> {
+                for (int i = 0; i < 16; i++) {
+                    callback.onNext(frame(StreamType.STDOUT, new byte[FRAME_SIZE]));
+                    sentFrames.incrementAndGet();
+                }
+                callback.onComplete();
+            };
+        ExecProcess process = start();
+
+        while (sentFrames.get() < 4) {
+            Thread.sleep(1);
+        }
+        Thread.sleep(100);
+        assertThat(sentFrames).as("The output is only read while there is room in the buffer").hasValue(4);
+
+        assertThat(readFully(process.getStdout())).hasSize(16 * FRAME_SIZE);
+        assertThat(process.getExitCode().get(10, TimeUnit.SECONDS)).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldDiscardTheOutputOfClosedStreams() throws Exception {
+        command =
+            (stdin, callback) -> {
+                for (int i = 0; i < 16; i++) {
+                    callback.onNext(frame(StreamType.STDERR, new byte[FRAME_SIZE]));
+                }
+                callback.onNext(frame(StreamType.STDOUT, "output".getBytes(StandardCharsets.UTF_8)));
+                callback.onComplete();
+            };
+        ExecProcess process = start();
+
+        process.getStderr().close();
+
+        assertThat(new String(readFully(process.getStdout()), StandardCharsets.UTF_8)).isEqualTo("output");
+        assertThat(process.getExitCode().get(10, TimeUnit.SECONDS)).isEqualTo(3);
+    }
+
+    private ExecProcess start() {
+        ExecProcess process = new ExecProcess(client, "exec-id", "/container");
+        process.start();
+        return process;
+    }
+
+    private static byte[] readFully(InputStream inputStream) {
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int count;
+            while ((count = inputStream.read(buffer)) >= 0) {
+                output.write(buffer, 0, count);
+            }
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Frame frame(StreamType streamType, byte[] payload) {
+        return new Frame(streamType, payload);
+    }
+}
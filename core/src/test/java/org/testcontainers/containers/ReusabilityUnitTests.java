@@ -3,15 +3,21 @@ package org.testcontainers.containers;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.CommitCmd;
 import com.github.dockerjava.api.command.CreateContainerCmd;
 import com.github.dockerjava.api.command.CreateContainerResponse;
 import com.github.dockerjava.api.command.InspectContainerCmd;
 import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.command.InspectImageCmd;
+import com.github.dockerjava.api.command.InspectImageResponse;
 import com.github.dockerjava.api.command.ListContainersCmd;
 import com.github.dockerjava.api.command.StartContainerCmd;
+import com.github.dockerjava.api.exception.NotFoundException;
 import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.core.command.CommitCmdImpl;
 import com.github.dockerjava.core.command.CreateContainerCmdImpl;
 import com.github.dockerjava.core.command.InspectContainerCmdImpl;
+import com.github.dockerjava.core.command.InspectImageCmdImpl;
 import com.github.dockerjava.core.command.ListContainersCmdImpl;
 import com.github.dockerjava.core.command.StartContainerCmdImpl;
 import lombok.RequiredArgsConstructor;
@@ -171,6 +177,78 @@ public class ReusabilityUnitTests {
             assertThat(script).containsExactly("containerIsStarting(reused=true)", "containerIsStarted(reused=true)");
         }
 
+        @Test
+        public void shouldCallHookIfCreatedFromSnapshot() {
+            Mockito.doReturn(false).when(TestcontainersConfiguration.getInstance()).environmentSupportsReuse();
+            container.withSnapshotAfterStartup(true);
+
+            String containerId = randomContainerId();
+            List<String> images = new ArrayList<>();
+            when(client.createContainerCmd(any()))
+                .then(createContainerAnswer(containerId, command -> images.add(command.getImage())));
+            when(client.inspectImageCmd(any())).then(inspectImageAnswer(true));
+            when(client.startContainerCmd(containerId)).then(startContainerAnswer());
+            when(client.inspectContainerCmd(containerId)).then(inspectContainerAnswer());
+
+            container.start();
+            assertThat(images).hasSize(1);
+            assertThat(images.get(0)).startsWith("testcontainers-snapshot:");
+            assertThat(script)
+                .containsExactly(
+                    "containerIsCreated",
+                    "containerIsStarting(reused=true)",
+                    "containerIsStarted(reused=true)"
+                );
+            Mockito.verify(client, Mockito.never()).commitCmd(any());
+        }
+
+        @Test
+        public void shouldCommitSnapshotAfterHooks() {
+            Mockito.doReturn(false).when(TestcontainersConfiguration.getInstance()).environmentSupportsReuse();
+            container.withSnapshotAfterStartup(true);
+
+            String containerId = randomContainerId();
+            when(client.createContainerCmd(any())).then(createContainerAnswer(containerId));
+            when(client.inspectImageCmd(any())).then(inspectImageAnswer(false));
+            when(client.startContainerCmd(containerId)).then(startContainerAnswer());
+            when(client.inspectContainerCmd(containerId)).then(inspectContainerAnswer());
+            when(client.commitCmd(containerId))
+                .then(invocation -> {
+                    CommitCmd.Exec exec = command -> {
+                        script.add("commit(" + command.getRepository() + ")");
+                        return "sha256:snapshot";
+                    };
+                    return new CommitCmdImpl(exec, invocation.getArgument(0));
+                });
+
+            container.start();
+            assertThat(script)
+                .containsExactly(
+                    "containerIsCreated",
+                    "containerIsStarting(reused=false)",
+                    "containerIsStarted(reused=false)",
+                    "commit(testcontainers-snapshot)"
+                );
+        }
+
+        @Test
+        public void shouldKeySnapshotsByBaseImage() {
+            AtomicReference<String> baseImageId = new AtomicReference<>("sha256:first");
+            when(client.inspectImageCmd(any()))
+                .then(invocation -> {
+                    InspectImageCmd.Exec exec = command -> new InspectImageResponse().withId(baseImageId.get());
+                    return new InspectImageCmdImpl(exec, invocation.getArgument(0));
+                });
+
+            String first = container.snapshotImageName("image", "hash");
+            baseImageId.set("sha256:second");
+
+            assertThat(first).startsWith("testcontainers-snapshot:");
+            assertThat(container.snapshotImageName("image", "hash")).isNotEqualTo(first);
+            assertThat(container.snapshotImageName("image", "other-hash"))
+                .isNotEqualTo(container.snapshotImageName("image", "hash"));
+        }
+
         @Test
         public void shouldNotCallHookIfNotReused() {
             String containerId = randomContainerId();
@@ -585,6 +663,19 @@ public class ReusabilityUnitTests {
             };
         }
 
+        protected Answer<InspectImageCmd> inspectImageAnswer(boolean exists) {
+            return invocation -> {
+                InspectImageCmd.Exec exec = command -> {
+                    // only snapshots are missing, the base image is always available
+                    if (!exists && command.getImageId().startsWith(GenericContainer.SNAPSHOT_REPOSITORY)) {
+                        throw new NotFoundException("No such image");
+                    }
+                    return new InspectImageResponse().withId("sha256:base");
+                };
+                return new InspectImageCmdImpl(exec, invocation.getArgument(0));
+            };
+        }
+
         protected Answer<InspectContainerCmd> inspectContainerAnswer() {
             return invocation -> {
                 InspectContainerCmd.Exec exec = command -> {
@@ -0,0 +1,82 @@
+package org.testcontainers.containers;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ReusableContainerLockTest {
+
+    private final String hash = UUID.randomUUID().toString();
+
+    @Test
+    public void shouldWaitForHolderToRelease() throws Exception {
+        CompletableFuture<Void> acquiredByOther;
+        try (ReusableContainerLock ignored = ReusableContainerLock.acquire(hash, Duration.ofSeconds(10))) {
+            acquiredByOther = CompletableFuture.runAsync(this::acquireAndRelease);
+
+            assertThatThrownBy(() -> acquiredByOther.get(500, TimeUnit.MILLISECONDS))
+                .isInstanceOf(TimeoutException.class);
+        }
+
+        acquiredByOther.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void shouldContinueWithoutLockAfterTimeout() throws Exception {
+        try (ReusableContainerLock ignored = ReusableContainerLock.acquire(hash, Duration.ofSeconds(10))) {
+            CompletableFuture<Void> acquiredByOther = CompletableFuture.runAsync(() -> {
+                try {
+                    ReusableContainerLock.acquire(hash, Duration.ofMillis(100)).close();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+
+            acquiredByOther.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void shouldIgnoreRepeatedClose() throws Exception {
+        ReusableContainerLock lock = ReusableContainerLock.acquire(hash, Duration.ofSeconds(10));
+        lock.close();
+        lock.close();
+
+        CompletableFuture<Void> acquiredByOther = CompletableFuture.runAsync(this::acquireAndRelease);
+        acquiredByOther.get(5, TimeUnit.SECONDS);
+        assertThat(acquiredByOther).isDone();
+    }
+
+    @Test
+    public void shouldForgetReleasedLocks() throws Exception {
+        ReusableContainerLock.acquire(hash, Duration.ofSeconds(10)).close();
+        try (ReusableContainerLock ignored = ReusableContainerLock.acquire(hash, Duration.ofSeconds(10))) {
+            CompletableFuture.runAsync(() -> {
+                    try {
+                        ReusableContainerLock.acquire(hash, Duration.ofMillis(100)).close();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                })
+                .get(5, TimeUnit.SECONDS);
+            assertThat(ReusableContainerLock.isRegistered(hash)).isTrue();
+        }
+
+        assertThat(ReusableContainerLock.isRegistered(hash)).isFalse();
+    }
+
+    private void acquireAndRelease() {
+        try {
+            ReusableContainerLock.acquire(hash, Duration.ofSeconds(10)).close();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
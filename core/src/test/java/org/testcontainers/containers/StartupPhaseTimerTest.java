@@ -0,0 +1,68 @@
+package org.testcontainers.containers;
+
+import org.junit.Test;
+import org.testcontainers.core.ContainerLifecycleListener;
+import org.testcontainers.core.ContainerLifecycleListener.Phase;
+import org.testcontainers.core.ContainerLifecycleListener.PhaseEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StartupPhaseTimerTest {
+
+    private final List<PhaseEvent> events = new ArrayList<>();
+
+    private final AtomicReference<String> containerId = new AtomicReference<>();
+
+    private final StartupPhaseTimer timer = new StartupPhaseTimer(
+        Collections.<ContainerLifecycleListener>singleton(events::add),
+        containerId::get
+    );
+
+    @Test
+    public void shouldReportCompletedPhases() {
+        timer.start(Phase.IMAGE_RESOLUTION);
+        timer.imageResolved("image:latest");
+        timer.start(Phase.CREATE);
+        containerId.set("container-id");
+        timer.start(Phase.START);
+        timer.complete();
+        timer.complete();
+
+        assertThat(events)
+            .extracting(PhaseEvent::getPhase)
+            .containsExactly(Phase.IMAGE_RESOLUTION, Phase.CREATE, Phase.START);
+        assertThat(events).extracting(PhaseEvent::getImageName).containsOnly("image:latest");
+        assertThat(events).extracting(PhaseEvent::getContainerId).containsExactly(null, "container-id", "container-id");
+        assertThat(events).noneMatch(PhaseEvent::isFailed);
+    }
+
+    @Test
+    public void shouldReportFailedPhase() {
+        timer.start(Phase.IMAGE_RESOLUTION);
+        timer.fail();
+
+        assertThat(events).hasSize(1);
+        PhaseEvent event = events.get(0);
+        assertThat(event.getPhase()).isEqualTo(Phase.IMAGE_RESOLUTION);
+        assertThat(event.getImageName()).isEqualTo("<resolving>");
+        assertThat(event.isFailed()).isTrue();
+    }
+
+    @Test
+    public void shouldIgnoreFailingListeners() {
+        StartupPhaseTimer timer = new StartupPhaseTimer(
+            Collections.<ContainerLifecycleListener>singleton(event -> {
+                throw new IllegalStateException("boom");
+            }),
+            containerId::get
+        );
+
+        timer.start(Phase.CREATE);
+        timer.complete();
+    }
+}
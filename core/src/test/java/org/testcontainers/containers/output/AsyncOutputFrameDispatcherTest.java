@@ -0,0 +1,186 @@
+package org.testcontainers.containers.output;
+
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AsyncOutputFrameDispatcherTest {
+
+    private final List<String> delivered = new CopyOnWriteArrayList<>();
+
+    private final CountDownLatch ended = new CountDownLatch(1);
+
+    private final CountDownLatch released = new CountDownLatch(1);
+
+    @Test
+    public void shouldDeliverAllFramesWhenBlocking() throws Exception {
+        AsyncOutputFrameDispatcher dispatcher = new AsyncOutputFrameDispatcher(
+            "test",
+            2,
+            AsyncOutputFrameDispatcher.OverflowPolicy.BLOCK
+        )
+            .addConsumer(collecting(Duration.ofMillis(1)));
+
+        for (int i = 0; i < 100; i++) {
+            dispatcher.accept(frame(i));
+        }
+        dispatcher.accept(OutputFrame.END);
+
+        assertThat(ended.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(delivered).containsExactlyElementsOf(lines(0, 100));
+        assertThat(dispatcher.getDroppedFrameCount()).isZero();
+        assertThat(dispatcher.getMaxLag()).isPositive();
+    }
+
+    @Test
+    public void shouldNotWaitForSlowConsumersWhenDroppingOldest() throws Exception {
+        AsyncOutputFrameDispatcher dispatcher = new AsyncOutputFrameDispatcher(
+            "test",
+            10,
+            AsyncOutputFrameDispatcher.OverflowPolicy.DROP_OLDEST
+        )
+            .addConsumer(blocked());
+
+        // the first frame blocks the consumer, the following ones fill the buffer
+        dispatcher.accept(frame(0));
+        awaitPendingFrames(dispatcher, 0);
+        for (int i = 1; i < 100; i++) {
+            dispatcher.accept(frame(i));
+        }
+        dispatcher.accept(OutputFrame.END);
+
+        assertThat(dispatcher.getPendingFrameCount()).isEqualTo(10);
+        assertThat(dispatcher.getLag()).isPositive();
+        released.countDown();
+
+        assertThat(ended.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(delivered).startsWith("0").endsWith("99");
+        assertThat(delivered).hasSize(10);
+        assertThat(dispatcher.getDroppedFrameCount()).isEqualTo(90);
+    }
+
+    @Test
+    public void shouldKeepEveryTenthFrameWhenSampling() throws Exception {
+        AsyncOutputFrameDispatcher dispatcher = new AsyncOutputFrameDispatcher(
+            "test",
+            5,
+            AsyncOutputFrameDispatcher.OverflowPolicy.SAMPLE
+        )
+            .addConsumer(blocked());
+
+        dispatcher.accept(frame(0));
+        awaitPendingFrames(dispatcher, 0);
+        for (int i = 1; i < 56; i++) {
+            dispatcher.accept(frame(i));
+        }
+        dispatcher.accept(OutputFrame.END);
+        released.countDown();
+
+        assertThat(ended.await(10, TimeUnit.SECONDS)).isTrue();
+        // frames 1-5 fill the buffer, then every 10th frame and the end replace the oldest one
+        assertThat(delivered).containsExactly("0", "16", "26", "36", "46");
+        assertThat(dispatcher.getDroppedFrameCount()).isEqualTo(51);
+    }
+
+    @Test
+    public void shouldIgnoreFramesAfterTheEnd() throws Exception {
+        AsyncOutputFrameDispatcher dispatcher = new AsyncOutputFrameDispatcher(
+            "test",
+            1,
+            AsyncOutputFrameDispatcher.OverflowPolicy.BLOCK
+        )
+            .addConsumer(collecting(Duration.ZERO));
+
+        dispatcher.accept(OutputFrame.END);
+        assertThat(ended.await(10, TimeUnit.SECONDS)).isTrue();
+
+        dispatcher.accept(frame(1));
+        dispatcher.accept(frame(2));
+
+        assertThat(delivered).isEmpty();
+        assertThat(dispatcher.getPendingFrameCount()).isZero();
+    }
+
+    @Test
+    public void shouldOnlyRemoveColorCodesForConsumersNotKeepingThem() throws Exception {
+        ToStringConsumer stripped = new ToStringConsumer();
+        ToStringConsumer colored = new ToStringConsumer().withRemoveAnsiCodes(false);
+        AsyncOutputFrameDispatcher dispatcher = new AsyncOutputFrameDispatcher(
+            "test",
+            10,
+            AsyncOutputFrameDispatcher.OverflowPolicy.BLOCK
+        )
+            .addConsumer(stripped)
+            .addConsumer(colored)
+            .addConsumer(collecting(Duration.ZERO));
+
+        FrameConsumerResultCallback callback = new FrameConsumerResultCallback();
+        callback.addConsumer(OutputFrame.OutputType.STDOUT, dispatcher);
+        callback.onNext(
+            new Frame(StreamType.STDOUT, "\u001B[32mgreen\u001B[0m line\n".getBytes(StandardCharsets.UTF_8))
+        );
+        callback.close();
+
+        assertThat(ended.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(stripped.toUtf8String()).isEqualTo("green line\n");
+        assertThat(colored.toUtf8String()).isEqualTo("\u001B[32mgreen\u001B[0m line\n");
+        assertThat(delivered).containsExactly("green line");
+    }
+
+    private Consumer<OutputFrame> collecting(Duration delay) {
+        return frame -> {
+            if (frame.getType() == OutputFrame.OutputType.END) {
+                ended.countDown();
+                return;
+            }
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            delivered.add(frame.getUtf8StringWithoutLineEnding());
+        };
+    }
+
+    private Consumer<OutputFrame> blocked() {
+        return frame -> {
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (frame.getType() == OutputFrame.OutputType.END) {
+                ended.countDown();
+            } else {
+                delivered.add(frame.getUtf8StringWithoutLineEnding());
+            }
+        };
+    }
+
+    private static void awaitPendingFrames(AsyncOutputFrameDispatcher dispatcher, int count)
+        throws InterruptedException {
+        while (dispatcher.getPendingFrameCount() != count) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static OutputFrame frame(int line) {
+        return new OutputFrame(OutputFrame.OutputType.STDOUT, (line + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> lines(int from, int to) {
+        return IntStream.range(from, to).mapToObj(String::valueOf).collect(Collectors.toList());
+    }
+}
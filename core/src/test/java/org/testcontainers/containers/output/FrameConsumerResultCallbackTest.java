@@ -219,6 +219,45 @@ public class FrameConsumerResultCallbackTest {
         assertThat(consumer.toUtf8String()).isEqualTo(payload);
     }
 
+    @Test
+    public void removeColorCodesSplitAcrossFrames() throws IOException {
+        FrameConsumerResultCallback callback = new FrameConsumerResultCallback();
+        ToStringConsumer consumer = new ToStringConsumer();
+        callback.addConsumer(OutputFrame.OutputType.STDOUT, consumer);
+        byte[] payloadBytes = FRAME_PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        for (byte b : payloadBytes) {
+            callback.onNext(new Frame(StreamType.STDOUT, new byte[] { b }));
+        }
+        callback.close();
+        assertThat(consumer.toUtf8String()).isEqualTo(LOG_RESULT);
+    }
+
+    @Test
+    public void keepIncompleteColorCodes() throws IOException {
+        String payload = "\u001B[31\nvalue\u001B[m\u001B\u001B[1mbold\u001B[0\r\n";
+        FrameConsumerResultCallback callback = new FrameConsumerResultCallback();
+        ToStringConsumer consumer = new ToStringConsumer();
+        callback.addConsumer(OutputFrame.OutputType.STDOUT, consumer);
+        callback.onNext(new Frame(StreamType.STDOUT, payload.getBytes(StandardCharsets.UTF_8)));
+        callback.close();
+        assertThat(consumer.toUtf8String()).isEqualTo("\u001B[31\nvalue\u001B[m\u001Bbold\u001B[0\r\n");
+    }
+
+    @Test
+    public void splitLongLines() throws IOException {
+        StringBuilder longLine = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            longLine.append(i % 10);
+        }
+        FrameConsumerResultCallback callback = new FrameConsumerResultCallback();
+        StringBuilder lines = new StringBuilder();
+        callback.addConsumer(OutputFrame.OutputType.STDOUT, frame -> lines.append(frame.getUtf8String()).append('|'));
+        callback.onNext(new Frame(StreamType.STDOUT, (longLine + "\nshort\r\n").getBytes(StandardCharsets.UTF_8)));
+        callback.onNext(new Frame(StreamType.STDOUT, "last".getBytes(StandardCharsets.UTF_8)));
+        callback.close();
+        assertThat(lines.toString()).isEqualTo(longLine + "\n|short\r\n|last||");
+    }
+
     private static class BasicConsumer implements Consumer<OutputFrame> {
 
         private StringBuilder input = new StringBuilder();
@@ -0,0 +1,58 @@
+package org.testcontainers.containers.output;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TailConsumerTest {
+
+    @Test
+    public void shouldRetainAllOutputWithinCapacity() {
+        TailConsumer consumer = new TailConsumer(16);
+
+        consumer.accept(frame("first\n"));
+        consumer.accept(frame("second\n"));
+        consumer.accept(OutputFrame.END);
+
+        assertThat(consumer.toUtf8String()).isEqualTo("first\nsecond\n");
+        assertThat(consumer.getDiscardedBytes()).isZero();
+    }
+
+    @Test
+    public void shouldStartWithTheFirstCompleteLineOnceOutputIsDiscarded() {
+        TailConsumer consumer = new TailConsumer(16);
+
+        consumer.accept(frame("first\n"));
+        consumer.accept(frame("second\n"));
+        consumer.accept(frame("third\n"));
+
+        assertThat(consumer.toUtf8String()).isEqualTo("second\nthird\n");
+        assertThat(consumer.getDiscardedBytes()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldRetainTheEndOfFramesLargerThanTheCapacity() {
+        TailConsumer consumer = new TailConsumer(8);
+
+        consumer.accept(frame("abc\n"));
+        consumer.accept(frame("0123456789\nlast"));
+
+        assertThat(consumer.toUtf8String()).isEqualTo("last");
+        assertThat(consumer.getDiscardedBytes()).isEqualTo(11);
+    }
+
+    @Test
+    public void shouldKeepAPartialLineWithoutCompleteLines() {
+        TailConsumer consumer = new TailConsumer(4);
+
+        consumer.accept(frame("0123456789"));
+
+        assertThat(consumer.toUtf8String()).isEqualTo("6789");
+    }
+
+    private static OutputFrame frame(String payload) {
+        return new OutputFrame(OutputFrame.OutputType.STDOUT, payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
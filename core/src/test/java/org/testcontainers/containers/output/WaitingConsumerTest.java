@@ -0,0 +1,69 @@
+package org.testcontainers.containers.output;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class WaitingConsumerTest {
+
+    @Test
+    public void boundedConsumerShouldDropOldestFrames() {
+        WaitingConsumer consumer = new WaitingConsumer(2, WaitingConsumer.DropPolicy.DROP_OLDEST);
+
+        consumer.accept(frame("1"));
+        consumer.accept(frame("2"));
+        consumer.accept(frame("3"));
+
+        assertThat(consumer.getFrames()).extracting(OutputFrame::getUtf8String).containsExactly("2", "3");
+        assertThat(consumer.getDroppedFrameCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void boundedConsumerShouldDropNewestFramesButNotTheEnd() throws Exception {
+        WaitingConsumer consumer = new WaitingConsumer(2, WaitingConsumer.DropPolicy.DROP_NEWEST);
+
+        consumer.accept(frame("1"));
+        consumer.accept(frame("2"));
+        consumer.accept(frame("3"));
+        consumer.accept(OutputFrame.END);
+
+        assertThat(consumer.getDroppedFrameCount()).isEqualTo(2);
+        consumer.waitUntilEnd(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void waitUntilShouldBeSignalledByNewFrames() throws Exception {
+        WaitingConsumer consumer = new WaitingConsumer();
+
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> {
+            try {
+                consumer.waitUntil(frame -> frame.getUtf8String().contains("ready"), 10, TimeUnit.SECONDS);
+            } catch (TimeoutException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        consumer.accept(frame("starting"));
+        consumer.accept(frame("ready"));
+
+        waiting.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void waitUntilShouldTimeOut() {
+        WaitingConsumer consumer = new WaitingConsumer();
+        consumer.accept(frame("starting"));
+
+        assertThatThrownBy(() -> consumer.waitUntil(frame -> false, 100, TimeUnit.MILLISECONDS, 1))
+            .isInstanceOf(TimeoutException.class);
+    }
+
+    private static OutputFrame frame(String line) {
+        return new OutputFrame(OutputFrame.OutputType.STDOUT, line.getBytes(StandardCharsets.UTF_8));
+    }
+}
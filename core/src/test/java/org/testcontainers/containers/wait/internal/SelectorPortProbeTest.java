@@ -0,0 +1,79 @@
+package org.testcontainers.containers.wait.internal;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.ServerSocket;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class SelectorPortProbeTest {
+
+    private final SelectorPortProbe probe = SelectorPortProbe.getInstance();
+
+    private ServerSocket listeningSocket1;
+
+    private ServerSocket listeningSocket2;
+
+    private int nonListeningPort;
+
+    @Before
+    public void setUp() throws Exception {
+        listeningSocket1 = new ServerSocket(0);
+        listeningSocket2 = new ServerSocket(0);
+
+        ServerSocket nonListeningSocket = new ServerSocket(0);
+        nonListeningPort = nonListeningSocket.getLocalPort();
+        nonListeningSocket.close();
+    }
+
+    @Test
+    public void multipleListening() throws Exception {
+        CompletableFuture<Void> result = probe.probe(
+            "127.0.0.1",
+            Arrays.asList(listeningSocket1.getLocalPort(), listeningSocket2.getLocalPort())
+        );
+
+        result.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void oneNotListening() {
+        CompletableFuture<Void> result = probe.probe(
+            "127.0.0.1",
+            Arrays.asList(listeningSocket1.getLocalPort(), nonListeningPort)
+        );
+
+        try {
+            assertThat(catchThrowable(() -> result.get(500, TimeUnit.MILLISECONDS)))
+                .as("SelectorPortProbe detects a non-listening port among many")
+                .isInstanceOf(TimeoutException.class);
+        } finally {
+            result.cancel(false);
+        }
+    }
+
+    @Test
+    public void startsListeningLater() throws Exception {
+        CompletableFuture<Void> result = probe.probe("127.0.0.1", Collections.singleton(nonListeningPort));
+        Thread.sleep(200);
+        assertThat(result).isNotDone();
+
+        try (ServerSocket socket = new ServerSocket(nonListeningPort)) {
+            result.get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        listeningSocket1.close();
+        listeningSocket2.close();
+    }
+}
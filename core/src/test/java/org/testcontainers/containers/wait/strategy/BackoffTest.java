@@ -0,0 +1,41 @@
+package org.testcontainers.containers.wait.strategy;
+
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BackoffTest {
+
+    @Test
+    public void shouldGrowExponentiallyUpToMaximum() {
+        Backoff backoff = new Backoff(Duration.ofMillis(50), Duration.ofSeconds(1), 2, 0);
+
+        assertThat(backoff.delay(0)).isEqualTo(Duration.ofMillis(50));
+        assertThat(backoff.delay(1)).isEqualTo(Duration.ofMillis(100));
+        assertThat(backoff.delay(4)).isEqualTo(Duration.ofMillis(800));
+        assertThat(backoff.delay(5)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(backoff.delay(1000)).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void shouldApplyJitter() {
+        Backoff backoff = new Backoff(Duration.ofMillis(100), Duration.ofMillis(100), 2, 0.5);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(backoff.delay(i)).isBetween(Duration.ofMillis(50), Duration.ofMillis(150));
+        }
+    }
+
+    @Test
+    public void shouldRejectInvalidCurves() {
+        assertThatThrownBy(() -> new Backoff(Duration.ofSeconds(2), Duration.ofSeconds(1), 2, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Backoff(Duration.ofMillis(50), Duration.ofSeconds(1), 0.5, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Backoff(Duration.ofMillis(50), Duration.ofSeconds(1), 2, 2))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,74 @@
+package org.testcontainers.containers.wait.strategy;
+
+import org.junit.Test;
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LogMessageMatcherTest {
+
+    @Test
+    public void shouldCompleteOnNthMatch() {
+        LogMessageMatcher matcher = new LogMessageMatcher(
+            Collections.singletonList(Pattern.compile("(?s).*ready.*")),
+            Collections.emptyList(),
+            2
+        );
+
+        matcher.accept(frame("I'm ready!\n"));
+        matcher.accept(frame("foobar\n"));
+        assertThat(matcher.getResult()).isNotDone();
+
+        matcher.accept(frame("I'm ready!\n"));
+        assertThat(matcher.getResult()).isCompleted();
+    }
+
+    @Test
+    public void shouldWaitForAllPatternsAndMessages() {
+        LogMessageMatcher matcher = new LogMessageMatcher(
+            Collections.singletonList(Pattern.compile("(?s)started in \\d+ms\\s")),
+            Arrays.asList("listening on 9200", "cluster health status changed"),
+            1
+        );
+
+        matcher.accept(frame("node listening on 9200 and 9300\n"));
+        matcher.accept(frame("started in 42ms\n"));
+        assertThat(matcher.getResult()).isNotDone();
+
+        matcher.accept(frame("[INFO] cluster health status changed from RED to GREEN\n"));
+        assertThat(matcher.getResult()).isCompleted();
+    }
+
+    @Test
+    public void shouldFailWhenOutputEnds() {
+        LogMessageMatcher matcher = new LogMessageMatcher(
+            Collections.emptyList(),
+            Collections.singletonList("ready"),
+            1
+        );
+
+        matcher.accept(OutputFrame.END);
+
+        assertThatThrownBy(() -> matcher.getResult().get()).isInstanceOf(ExecutionException.class);
+    }
+
+    @Test
+    public void ahoCorasickShouldFindOverlappingKeywords() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(Arrays.asList("he", "she", "his", "hers", "absent"));
+
+        assertThat(matcher.match("ushers").stream()).containsExactly(0, 1, 3);
+        assertThat(matcher.match("this").stream()).containsExactly(2);
+        assertThat(matcher.match("nothing").isEmpty()).isTrue();
+    }
+
+    private static OutputFrame frame(String line) {
+        return new OutputFrame(OutputFrame.OutputType.STDOUT, line.getBytes(StandardCharsets.UTF_8));
+    }
+}
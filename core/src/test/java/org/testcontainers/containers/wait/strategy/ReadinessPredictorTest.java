@@ -0,0 +1,92 @@
+package org.testcontainers.containers.wait.strategy;
+
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ReadinessPredictorTest {
+
+    private static final Duration MAX_DELAY = Duration.ofMinutes(1);
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldNotDelayWithoutEnoughDurations() {
+        ReadinessPredictor predictor = new ReadinessPredictor(temporaryFolder.getRoot().toPath().resolve("durations"));
+
+        assertThat(predictor.getFirstCheckDelay("image/strategy", MAX_DELAY)).isZero();
+
+        predictor.record("image/strategy", Duration.ofSeconds(10));
+        predictor.record("image/strategy", Duration.ofSeconds(10));
+
+        assertThat(predictor.getFirstCheckDelay("image/strategy", MAX_DELAY)).isZero();
+    }
+
+    @Test
+    public void shouldDelayUntilShortlyBeforeFastestUsualDuration() {
+        ReadinessPredictor predictor = new ReadinessPredictor(temporaryFolder.getRoot().toPath().resolve("durations"));
+
+        for (int i = 1; i <= 10; i++) {
+            predictor.record("image/strategy", Duration.ofSeconds(i));
+        }
+
+        assertThat(predictor.getFirstCheckDelay("image/strategy", MAX_DELAY)).isEqualTo(Duration.ofMillis(900));
+        assertThat(predictor.getFirstCheckDelay("image/other", MAX_DELAY)).isZero();
+        assertThat(predictor.getFirstCheckDelay("image/strategy", Duration.ofMillis(500)))
+            .as("The delay is capped")
+            .isEqualTo(Duration.ofMillis(500));
+    }
+
+    @Test
+    public void shouldShareDurationsThroughTheFile() {
+        Path file = temporaryFolder.getRoot().toPath().resolve("durations");
+        ReadinessPredictor first = new ReadinessPredictor(file);
+        ReadinessPredictor second = new ReadinessPredictor(file);
+
+        first.record("image/strategy", Duration.ofSeconds(2));
+        second.record("image/strategy", Duration.ofSeconds(2));
+        first.record("image/strategy", Duration.ofSeconds(2));
+
+        assertThat(new ReadinessPredictor(file).getFirstCheckDelay("image/strategy", MAX_DELAY))
+            .isEqualTo(Duration.ofMillis(1800));
+    }
+
+    @Test
+    public void shouldIgnoreMalformedDurations() throws IOException {
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, "image/strategy=1000,abc,1000\n".getBytes(StandardCharsets.UTF_8));
+        ReadinessPredictor predictor = new ReadinessPredictor(file);
+
+        assertThat(predictor.getFirstCheckDelay("image/strategy", MAX_DELAY)).isZero();
+
+        predictor.record("image/strategy", Duration.ofSeconds(1));
+
+        assertThat(predictor.getFirstCheckDelay("image/strategy", MAX_DELAY)).isZero();
+    }
+
+    @Test
+    public void shouldKeyDurationsByImageAndStrategyType() {
+        WaitStrategyTarget target = mock(WaitStrategyTarget.class);
+        InspectContainerResponse containerInfo = mock(InspectContainerResponse.class);
+        when(containerInfo.getImageId()).thenReturn("sha256:1234");
+        when(target.getContainerInfo()).thenReturn(containerInfo);
+
+        assertThat(ReadinessPredictor.key(target, new ShellStrategy()))
+            .isEqualTo("sha256:1234/" + ShellStrategy.class.getName());
+        assertThat(ReadinessPredictor.key(mock(WaitStrategyTarget.class), new ShellStrategy()))
+            .as("No key without image")
+            .isNull();
+    }
+}
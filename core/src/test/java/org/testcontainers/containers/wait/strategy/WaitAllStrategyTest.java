@@ -9,6 +9,7 @@ import org.rnorth.ducttape.TimeoutException;
 import org.testcontainers.containers.GenericContainer;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
@@ -163,6 +164,84 @@ public class WaitAllStrategyTest {
         verify(strategy1).withStartupTimeout(someSeconds);
     }
 
+    @Test
+    public void concurrentModeShouldWaitForInnerStrategiesConcurrently() {
+        final WaitStrategy underTest = new WaitAllStrategy(WaitAllStrategy.Mode.CONCURRENT)
+            .withStartupTimeout(Duration.ofSeconds(10))
+            .withStrategy(new SleepingStrategy(Duration.ofMillis(500)))
+            .withStrategy(new SleepingStrategy(Duration.ofMillis(500)))
+            .withStrategy(new SleepingStrategy(Duration.ofMillis(500)));
+
+        long startTime = System.nanoTime();
+        underTest.waitUntilReady(container);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startTime))
+            .as("The strategies waited concurrently")
+            .isLessThan(Duration.ofMillis(1500));
+    }
+
+    @Test
+    public void concurrentModeShouldFailAsSoonAsOneStrategyFails() {
+        SleepingStrategy slowStrategy = new SleepingStrategy(Duration.ofSeconds(10));
+        final WaitStrategy underTest = new WaitAllStrategy(WaitAllStrategy.Mode.CONCURRENT)
+            .withStartupTimeout(Duration.ofSeconds(20))
+            .withStrategy(slowStrategy)
+            .withStrategy(strategy1);
+
+        doThrow(new IllegalStateException("not ready")).when(strategy1).waitUntilReady(eq(container));
+
+        long startTime = System.nanoTime();
+        assertThat(catchThrowable(() -> underTest.waitUntilReady(container)))
+            .as("The failure of the inner strategy is propagated")
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("not ready");
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startTime))
+            .as("The slow strategy was not waited for")
+            .isLessThan(Duration.ofSeconds(5));
+        assertThat(slowStrategy.interrupted).as("The slow strategy was stopped").succeedsWithin(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void concurrentModeShouldApplyOuterTimeout() {
+        final WaitStrategy underTest = new WaitAllStrategy(WaitAllStrategy.Mode.CONCURRENT)
+            .withStartupTimeout(Duration.ofMillis(200))
+            .withStrategy(new SleepingStrategy(Duration.ofSeconds(10)));
+
+        assertThat(catchThrowable(() -> underTest.waitUntilReady(container)))
+            .as("The outer strategy timeout applies")
+            .isInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    public void concurrentModeShouldNotMessWithIndividualTimeouts() {
+        new WaitAllStrategy(WaitAllStrategy.Mode.CONCURRENT).withStrategy(strategy1).withStrategy(strategy2);
+
+        verify(strategy1, never()).withStartupTimeout(any());
+        verify(strategy2, never()).withStartupTimeout(any());
+    }
+
+    static class SleepingStrategy extends AbstractWaitStrategy {
+
+        private final Duration sleep;
+
+        final CompletableFuture<Void> interrupted = new CompletableFuture<>();
+
+        SleepingStrategy(Duration sleep) {
+            this.sleep = sleep;
+        }
+
+        @Override
+        protected void waitUntilReady() {
+            try {
+                Thread.sleep(sleep.toMillis());
+            } catch (InterruptedException e) {
+                interrupted.complete(null);
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     static class DummyStrategy extends AbstractWaitStrategy {
 
         DummyStrategy(Duration defaultInnerWait) {
@@ -0,0 +1,78 @@
+package org.testcontainers.containers.wait.strategy;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class WaitSchedulerTest {
+
+    private static final Backoff NO_JITTER = new Backoff(Duration.ofMillis(1), Duration.ofMillis(10), 2, 0);
+
+    private final WaitScheduler scheduler = WaitScheduler.getInstance();
+
+    @Test
+    public void shouldRetryUntilCheckSucceeds() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+
+        WaitScheduler.Polling polling = scheduler.pollUntil(
+            () -> {
+                if (attempts.incrementAndGet() < 3) {
+                    throw new IllegalStateException("not yet");
+                }
+                return attempts.get() >= 5;
+            },
+            NO_JITTER
+        );
+
+        WaitScheduler.await(polling, Duration.ofSeconds(10));
+        assertThat(attempts).hasValue(5);
+        assertThat(polling.getLastFailure()).hasMessage("not yet");
+    }
+
+    @Test
+    public void shouldStopPollingWhenTimedOut() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+
+        WaitScheduler.Polling polling = scheduler.pollUntil(
+            () -> {
+                attempts.incrementAndGet();
+                return false;
+            },
+            NO_JITTER
+        );
+
+        assertThatThrownBy(() -> WaitScheduler.await(polling, Duration.ofMillis(100)))
+            .isInstanceOf(TimeoutException.class);
+        assertThat(polling).isCancelled();
+
+        int attemptsAfterTimeout = attempts.get();
+        Thread.sleep(100);
+        assertThat(attempts.get()).isLessThanOrEqualTo(attemptsAfterTimeout + 1);
+    }
+
+    @Test
+    public void shouldInterruptCancelledTasks() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        CompletableFuture<Object> result = scheduler.submit(() -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        });
+
+        assertThatThrownBy(() -> WaitScheduler.await(result, Duration.ofMillis(100)))
+            .isInstanceOf(TimeoutException.class);
+        assertThat(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+}
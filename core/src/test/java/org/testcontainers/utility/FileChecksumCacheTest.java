@@ -0,0 +1,64 @@
+package org.testcontainers.utility;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FileChecksumCacheTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldPersistChecksumsOfUnchangedFiles() throws Exception {
+        Path store = temporaryFolder.getRoot().toPath().resolve("checksums.properties");
+        Path file = createOldFile("foo");
+
+        long checksum = new FileChecksumCache(store).checksums(Collections.singleton(file)).get(file);
+
+        assertThat(store).exists();
+        // the cache is trusted as long as size, modification time and inode are the same
+        Files.write(file, "bar".getBytes());
+        Files.setLastModifiedTime(file, FileTime.fromMillis(0));
+        assertThat(new FileChecksumCache(store).checksums(Collections.singleton(file))).containsEntry(file, checksum);
+    }
+
+    @Test
+    public void shouldHashModifiedFiles() throws Exception {
+        Path store = temporaryFolder.getRoot().toPath().resolve("checksums.properties");
+        Path file = createOldFile("foo");
+        FileChecksumCache cache = new FileChecksumCache(store);
+        long checksum = cache.checksums(Collections.singleton(file)).get(file);
+
+        Files.write(file, "bar".getBytes());
+        Files.setLastModifiedTime(file, FileTime.from(1, TimeUnit.DAYS));
+
+        assertThat(cache.checksums(Collections.singleton(file)).get(file)).isNotEqualTo(checksum);
+    }
+
+    @Test
+    public void shouldNotCacheRecentlyModifiedFiles() throws Exception {
+        Path store = temporaryFolder.getRoot().toPath().resolve("checksums.properties");
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, "foo".getBytes());
+
+        new FileChecksumCache(store).checksums(Collections.singleton(file));
+
+        assertThat(store).doesNotExist();
+    }
+
+    private Path createOldFile(String contents) throws Exception {
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, contents.getBytes());
+        Files.setLastModifiedTime(file, FileTime.fromMillis(0));
+        return file;
+    }
+}
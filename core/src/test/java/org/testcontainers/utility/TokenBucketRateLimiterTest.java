@@ -0,0 +1,61 @@
+package org.testcontainers.utility;
+
+import org.junit.Test;
+import org.testcontainers.utility.TokenBucketRateLimiter.TokenBucket;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void bucketShouldAllowBurstThenSpaceReservations() {
+        TokenBucket bucket = new TokenBucket(2);
+        long now = System.nanoTime() + SECOND;
+
+        assertThat(bucket.reserve(now)).isEqualTo(now);
+        assertThat(bucket.reserve(now)).isEqualTo(now);
+        assertThat(bucket.reserve(now)).isEqualTo(now);
+        assertThat(bucket.reserve(now)).isEqualTo(now + SECOND / 2);
+        assertThat(bucket.reserve(now)).isEqualTo(now + SECOND);
+    }
+
+    @Test
+    public void bucketShouldRefillWhileIdle() {
+        TokenBucket bucket = new TokenBucket(1);
+        long now = System.nanoTime() + SECOND;
+
+        assertThat(bucket.reserve(now)).isEqualTo(now);
+        assertThat(bucket.reserve(now)).isEqualTo(now);
+        assertThat(bucket.reserve(now + 10 * SECOND)).isEqualTo(now + 10 * SECOND);
+    }
+
+    @Test
+    public void limitersShouldNotShareTargetBuckets() {
+        TokenBucketRateLimiter first = new TokenBucketRateLimiter(1, null);
+        TokenBucketRateLimiter second = new TokenBucketRateLimiter(1, null);
+
+        first.doWhenReady(() -> {});
+        second.doWhenReady(() -> {});
+
+        assertThat(first.getQueueWaitTime()).isLessThan(Duration.ofMillis(500));
+        assertThat(second.getQueueWaitTime()).isLessThan(Duration.ofMillis(500));
+    }
+
+    @Test
+    public void globalBucketShouldCapAllLimiters() {
+        TokenBucket global = new TokenBucket(10);
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1000, global);
+
+        for (int i = 0; i < 12; i++) {
+            limiter.doWhenReady(() -> {});
+        }
+
+        assertThat(limiter.getQueueWaitTime()).isGreaterThan(Duration.ofMillis(50));
+        assertThat(TokenBucketRateLimiter.getTotalQueueWaitTime()).isGreaterThanOrEqualTo(limiter.getQueueWaitTime());
+    }
+}
@@ -3,10 +3,16 @@ package generic;
 import org.junit.Rule;
 import org.junit.Test;
 import org.testcontainers.containers.Container;
+import org.testcontainers.containers.ExecConfig;
+import org.testcontainers.containers.ExecProcess;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.utility.DockerImageName;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -30,4 +36,22 @@ public class ExecTest {
         assertThat(exitCode).isZero();
         // }
     }
+
+    @Test
+    public void testStreamingExec() throws Exception {
+        // execStreaming {
+        ExecConfig execConfig = ExecConfig.builder().command(new String[] { "tr", "a-z", "A-Z" }).workDir("/tmp").build();
+        try (ExecProcess process = container.execInContainerStreaming(execConfig)) {
+            try (OutputStream stdin = process.getStdin()) {
+                stdin.write("hello\n".getBytes(StandardCharsets.UTF_8));
+            }
+
+            BufferedReader stdout = new BufferedReader(
+                new InputStreamReader(process.getStdout(), StandardCharsets.UTF_8)
+            );
+            assertThat(stdout.readLine()).isEqualTo("HELLO");
+            assertThat(process.getExitCode().get()).isZero();
+        }
+        // }
+    }
 }
@@ -2,7 +2,6 @@ package org.testcontainers.containers;
 
 import com.github.dockerjava.api.command.InspectContainerResponse;
 import lombok.NonNull;
-import lombok.SneakyThrows;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -16,12 +15,13 @@ import org.testcontainers.utility.MountableFile;
 import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.SQLException;
-import java.sql.Statement;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
@@ -45,6 +45,10 @@ public abstract class JdbcDatabaseContainer<SELF extends JdbcDatabaseContainer<S
 
     private int connectTimeoutSeconds = 120;
 
+    private final AtomicReference<Connection> warmConnection = new AtomicReference<>();
+
+    private final ThreadLocal<Boolean> singleConnectionAttempt = new ThreadLocal<>();
+
     private static final String QUERY_PARAM_SEPARATOR = "&";
 
     /**
@@ -138,48 +142,9 @@ public abstract class JdbcDatabaseContainer<SELF extends JdbcDatabaseContainer<S
         return self();
     }
 
-    @SneakyThrows(InterruptedException.class)
     @Override
     protected void waitUntilContainerStarted() {
-        logger()
-            .info(
-                "Waiting for database connection to become available at {} using query '{}'",
-                getJdbcUrl(),
-                getTestQueryString()
-            );
-
-        // Repeatedly try and open a connection to the DB and execute a test query
-        long start = System.nanoTime();
-
-        Exception lastConnectionException = null;
-        while ((System.nanoTime() - start) < TimeUnit.SECONDS.toNanos(startupTimeoutSeconds)) {
-            if (!isRunning()) {
-                Thread.sleep(100L);
-            } else {
-                try (Connection connection = createConnection(""); Statement statement = connection.createStatement()) {
-                    boolean testQuerySucceeded = statement.execute(this.getTestQueryString());
-                    if (testQuerySucceeded) {
-                        return;
-                    }
-                } catch (NoDriverFoundException e) {
-                    // we explicitly want this exception to fail fast without retries
-                    throw e;
-                } catch (Exception e) {
-                    lastConnectionException = e;
-                    // ignore so that we can try again
-                    logger().debug("Failure when trying test query", e);
-                    Thread.sleep(100L);
-                }
-            }
-        }
-
-        throw new IllegalStateException(
-            String.format(
-                "Container is started, but cannot be accessed by (JDBC URL: %s), please check container logs",
-                this.getJdbcUrl()
-            ),
-            lastConnectionException
-        );
+        new JdbcWaitStrategy().withStartupTimeout(Duration.ofSeconds(startupTimeoutSeconds)).waitUntilReady(this);
     }
 
     @Override
@@ -188,6 +153,11 @@ public abstract class JdbcDatabaseContainer<SELF extends JdbcDatabaseContainer<S
         runInitScriptIfRequired();
     }
 
+    @Override
+    protected void containerIsStopping(InspectContainerResponse containerInfo) {
+        closeWarmConnection();
+    }
+
     /**
      * Obtain an instance of the correct JDBC driver for this particular database container type
      *
@@ -229,6 +199,34 @@ public abstract class JdbcDatabaseContainer<SELF extends JdbcDatabaseContainer<S
      * @throws SQLException if there is a repeated failure to create the connection
      */
     public Connection createConnection(String queryString, Properties info)
+        throws SQLException, NoDriverFoundException {
+        if ("".equals(queryString) && info.stringPropertyNames().isEmpty()) {
+            Connection connection = takeWarmConnection();
+            if (connection != null) {
+                return connection;
+            }
+        }
+
+        return connect(queryString, info, Boolean.TRUE.equals(singleConnectionAttempt.get()) ? 1 : Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a connection to check if the database is ready, for {@link JdbcWaitStrategy} which retries on its own.
+     * Delegates to {@link #createConnection(String)}, only making a single attempt.
+     *
+     * @return a Connection
+     * @throws SQLException if the connection attempt fails
+     */
+    protected Connection createConnectionForWaitStrategy() throws SQLException, NoDriverFoundException {
+        singleConnectionAttempt.set(Boolean.TRUE);
+        try {
+            return createConnection("");
+        } finally {
+            singleConnectionAttempt.remove();
+        }
+    }
+
+    private Connection connect(String queryString, Properties info, int maxAttempts)
         throws SQLException, NoDriverFoundException {
         Properties properties = new Properties(info);
         properties.put("user", this.getUsername());
@@ -238,6 +236,7 @@ public abstract class JdbcDatabaseContainer<SELF extends JdbcDatabaseContainer<S
         final Driver jdbcDriverInstance = getJdbcDriverInstance();
 
         SQLException lastException = null;
+        int attempts = 0;
         try {
             long start = System.nanoTime();
             // give up if we hit the time limit or the container stops running for some reason
@@ -254,6 +253,9 @@ public abstract class JdbcDatabaseContainer<SELF extends JdbcDatabaseContainer<S
                     return jdbcDriverInstance.connect(url, properties);
                 } catch (SQLException e) {
                     lastException = e;
+                    if (++attempts >= maxAttempts) {
+                        break;
+                    }
                     Thread.sleep(100L);
                 }
             }
@@ -263,6 +265,41 @@ public abstract class JdbcDatabaseContainer<SELF extends JdbcDatabaseContainer<S
         throw new SQLException("Could not create new connection", lastException);
     }
 
+    /**
+     * Keeps a connection that answered the test query open, to be returned by the first
+     * {@link #createConnection(String)}.
+     */
+    void offerWarmConnection(Connection connection) {
+        closeQuietly(warmConnection.getAndSet(connection));
+    }
+
+    @Nullable
+    private Connection takeWarmConnection() {
+        Connection connection = warmConnection.getAndSet(null);
+        try {
+            if (connection != null && !connection.isClosed()) {
+                return connection;
+            }
+        } catch (SQLException e) {
+            closeQuietly(connection);
+        }
+        return null;
+    }
+
+    private void closeWarmConnection() {
+        closeQuietly(warmConnection.getAndSet(null));
+    }
+
+    private void closeQuietly(@Nullable Connection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                logger().debug("Failed to close the connection kept open after startup", e);
+            }
+        }
+    }
+
     /**
      * Template method for constructing the JDBC URL to be used for creating {@link Connection}s.
      * This should be overridden if the JDBC URL and query string concatenation or URL string
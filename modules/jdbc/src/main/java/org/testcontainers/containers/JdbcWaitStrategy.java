@@ -0,0 +1,138 @@
+package org.testcontainers.containers;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.containers.JdbcDatabaseContainer.NoDriverFoundException;
+import org.testcontainers.containers.wait.internal.ExternalPortListeningCheck;
+import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Waits until the database of a {@link JdbcDatabaseContainer} accepts JDBC connections and answers its test query.
+ * <p>
+ * A JDBC connection is only attempted once the liveness check ports accept TCP connections, and attempts are spaced
+ * with an exponential backoff. The first successful connection is kept open and returned by the first
+ * {@link JdbcDatabaseContainer#createConnection(String)} call, so that the database handshake is not repeated.
+ * <p>
+ * Can be combined with other strategies, e.g. in a {@link org.testcontainers.containers.wait.strategy.WaitAllStrategy}.
+ */
+@Slf4j
+public class JdbcWaitStrategy extends AbstractWaitStrategy {
+
+    private Duration initialDelay = Duration.ofMillis(50);
+
+    private Duration maxDelay = Duration.ofSeconds(1);
+
+    private double multiplier = 2;
+
+    /**
+     * Sets the delays between connection attempts, growing from the initial delay by the multiplier after each failed
+     * attempt, up to the maximum delay.
+     *
+     * @param initialDelay the delay after the first failed attempt
+     * @param maxDelay the maximum delay between attempts
+     * @param multiplier the factor by which the delay grows, at least 1
+     * @return this
+     */
+    public JdbcWaitStrategy withBackoff(Duration initialDelay, Duration maxDelay, double multiplier) {
+        if (initialDelay.isNegative() || maxDelay.compareTo(initialDelay) < 0) {
+            throw new IllegalArgumentException("the delays must be positive, and the maximum at least the initial delay");
+        }
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("the multiplier must be at least 1");
+        }
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        this.multiplier = multiplier;
+        return this;
+    }
+
+    @Override
+    @SneakyThrows(InterruptedException.class)
+    protected void waitUntilReady() {
+        if (!(waitStrategyTarget instanceof JdbcDatabaseContainer)) {
+            throw new IllegalArgumentException("JdbcWaitStrategy can only be used with a JdbcDatabaseContainer");
+        }
+        JdbcDatabaseContainer<?> container = (JdbcDatabaseContainer<?>) waitStrategyTarget;
+        String testQuery = container.getTestQueryString();
+        container
+            .logger()
+            .info(
+                "Waiting for database connection to become available at {} using query '{}'",
+                container.getJdbcUrl(),
+                testQuery
+            );
+
+        Set<Integer> ports = container.getLivenessCheckPortNumbers();
+        ExternalPortListeningCheck portCheck = new ExternalPortListeningCheck(container, ports);
+
+        long deadline = System.nanoTime() + startupTimeout.toNanos();
+        Exception lastConnectionException = null;
+        TimeUnit.NANOSECONDS.sleep(getFirstCheckDelay().toNanos());
+        for (int attempt = 0;; attempt++) {
+            if (container.isRunning() && (ports.isEmpty() || isListening(portCheck))) {
+                try {
+                    Connection connection = container.createConnectionForWaitStrategy();
+                    if (answersTestQuery(connection, testQuery)) {
+                        container.offerWarmConnection(connection);
+                        return;
+                    }
+                } catch (NoDriverFoundException e) {
+                    // we explicitly want this exception to fail fast without retries
+                    throw e;
+                } catch (Exception e) {
+                    lastConnectionException = e;
+                    // ignore so that we can try again
+                    log.debug("Failure when trying test query", e);
+                }
+            }
+
+            long delayNanos = Math.min(delayNanos(attempt), deadline - System.nanoTime());
+            if (delayNanos <= 0) {
+                break;
+            }
+            TimeUnit.NANOSECONDS.sleep(delayNanos);
+        }
+
+        throw new IllegalStateException(
+            String.format(
+                "Container is started, but cannot be accessed by (JDBC URL: %s), please check container logs",
+                container.getJdbcUrl()
+            ),
+            lastConnectionException
+        );
+    }
+
+    private long delayNanos(int attempt) {
+        return (long) Math.min(initialDelay.toNanos() * Math.pow(multiplier, attempt), maxDelay.toNanos());
+    }
+
+    private static boolean isListening(ExternalPortListeningCheck portCheck) {
+        try {
+            return portCheck.call();
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Closes the connection, unless it answered the test query.
+     */
+    private static boolean answersTestQuery(Connection connection, String testQuery) throws SQLException {
+        boolean answered = false;
+        try (Statement statement = connection.createStatement()) {
+            answered = statement.execute(testQuery);
+            return answered;
+        } finally {
+            if (!answered) {
+                connection.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.testcontainers.containers;
+
+import lombok.NonNull;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class JdbcWaitStrategyTest {
+
+    private final Driver driver = mock(Driver.class);
+
+    private final Connection connection = mock(Connection.class);
+
+    private final Statement statement = mock(Statement.class);
+
+    private final JdbcContainerStub container = new JdbcContainerStub(driver);
+
+    @Before
+    public void setUp() throws SQLException {
+        when(connection.createStatement()).thenReturn(statement);
+    }
+
+    @Test
+    public void shouldKeepTheFirstConnectionForTheFirstUser() throws SQLException {
+        when(driver.connect(anyString(), any(Properties.class)))
+            .thenThrow(new SQLException("not ready"))
+            .thenReturn(connection)
+            .thenReturn(mock(Connection.class));
+        when(statement.execute("SELECT 1")).thenReturn(true);
+
+        newStrategy().waitUntilReady(container);
+
+        assertThat(container.createConnection("")).as("the connection of the wait strategy is reused").isSameAs(connection);
+        assertThat(container.createConnection("")).as("the connection is only reused once").isNotSameAs(connection);
+        verify(driver, times(3)).connect(anyString(), any(Properties.class));
+    }
+
+    @Test
+    public void shouldCloseConnectionsNotAnsweringTheTestQuery() throws SQLException {
+        when(driver.connect(anyString(), any(Properties.class))).thenReturn(connection);
+        when(statement.execute("SELECT 1")).thenReturn(false);
+
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() -> newStrategy().withStartupTimeout(Duration.ofMillis(200)).waitUntilReady(container));
+
+        verify(connection, atLeast(2)).close();
+    }
+
+    @Test
+    public void shouldFailFastWithoutDriver() {
+        container.driverMissing = true;
+
+        assertThatExceptionOfType(JdbcDatabaseContainer.NoDriverFoundException.class)
+            .isThrownBy(() -> newStrategy().waitUntilReady(container));
+    }
+
+    private static JdbcWaitStrategy newStrategy() {
+        return new JdbcWaitStrategy()
+            .withBackoff(Duration.ofMillis(10), Duration.ofMillis(100), 2)
+            .withStartupTimeout(Duration.ofSeconds(5));
+    }
+
+    static class JdbcContainerStub extends JdbcDatabaseContainer<JdbcContainerStub> {
+
+        private final Driver driver;
+
+        private boolean driverMissing;
+
+        JdbcContainerStub(Driver driver) {
+            super("mysql:latest");
+            this.driver = driver;
+        }
+
+        @Override
+        public String getDriverClassName() {
+            return "stub.Driver";
+        }
+
+        @Override
+        public String getJdbcUrl() {
+            return "jdbc:stub://localhost";
+        }
+
+        @Override
+        public String getUsername() {
+            return "test";
+        }
+
+        @Override
+        public String getPassword() {
+            return "test";
+        }
+
+        @Override
+        protected String getTestQueryString() {
+            return "SELECT 1";
+        }
+
+        @Override
+        public Driver getJdbcDriverInstance() {
+            if (driverMissing) {
+                throw new NoDriverFoundException("Could not get Driver", new ClassNotFoundException("stub.Driver"));
+            }
+            return driver;
+        }
+
+        @Override
+        public boolean isRunning() {
+            return true;
+        }
+
+        @Override
+        protected Logger logger() {
+            return mock(Logger.class);
+        }
+
+        @Override
+        public void setDockerImageName(@NonNull String dockerImageName) {}
+    }
+}